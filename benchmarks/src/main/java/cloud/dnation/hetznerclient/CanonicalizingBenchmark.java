@@ -0,0 +1,130 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.io.Resources;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding of large server list with and without {@link CanonicalizingTypeAdapterFactory}.
+ * <p>{@link #decode()} measures decoding time. {@link #retain(RetainedHeap)} decodes the list once per
+ * iteration and reports heap retained by it as {@code retainedBytes}, measured as difference of used heap
+ * after full GC with and without the list. Servers are spread over two server types and two datacenters, labels repeat.</p>
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class CanonicalizingBenchmark {
+    @Param({"5000"})
+    int servers;
+
+    @Param({"plain", "canonicalizing"})
+    String mode;
+
+    private String json;
+    private Gson gson;
+    private GetServersBySelectorResponse retained;
+
+    /**
+     * Heap retained by decoded list.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RetainedHeap {
+        public long retainedBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final JsonObject page = JsonParser.parseString(Resources.toString(
+                Resources.getResource("get-servers-by-selector.json"), StandardCharsets.UTF_8)).getAsJsonObject();
+        final JsonObject template = page.getAsJsonArray("servers").get(0).getAsJsonObject();
+        final JsonArray list = new JsonArray();
+        for (int i = 0; i < servers; i++) {
+            final JsonObject server = template.deepCopy();
+            server.addProperty("id", 1_000_000L + i);
+            server.addProperty("name", "agent-" + i);
+            if (i % 2 == 1) {
+                final JsonObject serverType = server.getAsJsonObject("server_type");
+                serverType.addProperty("id", serverType.get("id").getAsLong() + 1);
+                serverType.addProperty("name", serverType.get("name").getAsString() + "-large");
+            }
+            if (i % 3 == 1) {
+                final JsonObject datacenter = server.getAsJsonObject("datacenter");
+                datacenter.addProperty("id", datacenter.get("id").getAsLong() + 1);
+                datacenter.addProperty("name", datacenter.get("name").getAsString() + "-b");
+            }
+            list.add(server);
+        }
+        page.add("servers", list);
+        json = page.toString();
+        final GsonBuilder builder = new GsonBuilder().registerTypeAdapterFactory(ModelTypeAdapterFactory.INSTANCE);
+        if ("canonicalizing".equals(mode)) {
+            builder.registerTypeAdapterFactory(CanonicalizingTypeAdapterFactory.INSTANCE);
+        }
+        gson = builder.create();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public Object decode() {
+        return gson.fromJson(json, GetServersBySelectorResponse.class);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    // retainedBytes is summed across measurement iterations
+    @Measurement(iterations = 1)
+    public void retain(RetainedHeap heap) {
+        retained = gson.fromJson(json, GetServersBySelectorResponse.class);
+        final long live = usedHeap();
+        retained = null;
+        heap.retainedBytes = live - usedHeap();
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
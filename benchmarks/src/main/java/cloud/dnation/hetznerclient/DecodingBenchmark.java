@@ -0,0 +1,85 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.Resources;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gson decoding of response payloads, same way as converter used by Retrofit does it.
+ * Compares hand-written adapters of {@link ModelTypeAdapterFactory} with reflective ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DecodingBenchmark {
+    private static final Map<String, Class<?>> TYPES = ImmutableMap.of(
+            "paging-primary-ips-1.json", GetAllPrimaryIpsResponse.class,
+            "get-firewalls-by-selector.json", GetFirewallsBySelectorResponse.class,
+            "get-servers-by-selector.json", GetServersBySelectorResponse.class);
+
+    @Param({"paging-primary-ips-1.json", "get-firewalls-by-selector.json", "get-servers-by-selector.json"})
+    String payload;
+
+    @Param({"model", "reflective"})
+    String adapters;
+
+    private byte[] bytes;
+    private Class<?> type;
+    private Gson gson;
+
+    @Setup
+    public void setUp() throws IOException {
+        bytes = Resources.toByteArray(Resources.getResource(payload));
+        type = TYPES.get(payload);
+        final GsonBuilder builder = new GsonBuilder();
+        if ("model".equals(adapters)) {
+            builder.registerTypeAdapterFactory(ModelTypeAdapterFactory.INSTANCE);
+        }
+        gson = builder.create();
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)) {
+            return gson.fromJson(reader, type);
+        }
+    }
+}
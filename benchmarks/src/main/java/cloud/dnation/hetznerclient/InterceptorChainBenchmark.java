@@ -0,0 +1,108 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.io.Resources;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import retrofit2.Invocation;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of interceptor chain built by {@link ClientFactory}.
+ * Network is replaced by interceptor which returns canned response, so only client side work is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InterceptorChainBenchmark {
+    private static final MediaType JSON = MediaType.get("application/json");
+
+    /**
+     * Chain to measure: {@code bare} has no interceptors at all, {@code default} is chain of default options,
+     * {@code metrics} adds metrics and {@code conditional} adds conditional requests.
+     */
+    @Param({"bare", "default", "metrics", "conditional"})
+    String chain;
+
+    private OkHttpClient client;
+    private Request request;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws Exception {
+        body = Resources.toByteArray(Resources.getResource("get-network-by-id.json"));
+        final OkHttpClient.Builder builder = new OkHttpClient.Builder();
+        if (!"bare".equals(chain)) {
+            final ClientOptions.ClientOptionsBuilder options = ClientOptions.builder();
+            if ("metrics".equals(chain)) {
+                options.metrics(new ClientMetrics() {
+                });
+            }
+            final ConditionalStore store = "conditional".equals(chain) ? new ConditionalStore(1024) : null;
+            builder.interceptors().addAll(ClientFactory.interceptors("benchmark-chain", options.build(), store));
+        }
+        client = builder.addInterceptor(this::respond).build();
+        // requests made by Retrofit carry invocation, which is used to name operation
+        request = new Request.Builder()
+                .url("https://api.hetzner.cloud/v1/networks/10")
+                .tag(Invocation.class, Invocation.of(HetznerApi.class.getMethod("getNetworkById", long.class),
+                        Collections.singletonList(10L)))
+                .build();
+    }
+
+    private Response respond(Interceptor.Chain chain) {
+        return new Response.Builder()
+                .request(chain.request())
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                // keep rate limit governor from throttling benchmark
+                .header("RateLimit-Limit", "3600")
+                .header("RateLimit-Remaining", "3600")
+                .body(ResponseBody.create(JSON, body))
+                .build();
+    }
+
+    @Benchmark
+    public String execute() throws IOException {
+        try (Response response = client.newCall(request).execute()) {
+            return response.body().string();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.io.Resources;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PagedResourceHelper#fetchItems} end to end against in-process {@link MockWebServer},
+ * including HTTP exchange, whole interceptor chain and decoding of pages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PagingBenchmark {
+    @Param({"2", "20"})
+    int pages;
+
+    @Param({"1", "4"})
+    int parallelism;
+
+    private MockWebServer ws;
+    private HetznerApi api;
+    private PagingOptions options;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final String template = Resources.toString(Resources.getResource("paging-primary-ips-1.json"),
+                StandardCharsets.UTF_8);
+        final String[] bodies = new String[pages];
+        for (int i = 0; i < pages; i++) {
+            final JsonObject page = JsonParser.parseString(template).getAsJsonObject();
+            final JsonObject pagination = page.getAsJsonObject("meta").getAsJsonObject("pagination");
+            pagination.addProperty("page", i + 1);
+            pagination.addProperty("last_page", pages);
+            pagination.addProperty("total_entries", pages * 25);
+            if (i + 1 < pages) {
+                pagination.addProperty("next_page", i + 2);
+            } else {
+                pagination.add("next_page", JsonNull.INSTANCE);
+            }
+            bodies[i] = page.toString();
+        }
+        ws = new MockWebServer();
+        ws.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                final int index = Integer.parseInt(request.getRequestUrl().queryParameter("page"));
+                return new MockResponse()
+                        .setHeader("Content-Type", "application/json")
+                        // keep rate limit governor from throttling benchmark
+                        .setHeader("RateLimit-Limit", 3600)
+                        .setHeader("RateLimit-Remaining", 3600)
+                        .setBody(bodies[Math.min(index, pages - 1)]);
+            }
+        });
+        ws.start();
+        api = ClientFactory.create(() -> "benchmark-paging", ClientOptions.builder()
+                .endpoint(ws.url("/").toString())
+                .retryPolicy(RetryPolicy.NONE)
+                .build());
+        options = PagingOptions.builder().parallelism(parallelism).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        ws.close();
+    }
+
+    @Benchmark
+    public List<PrimaryIpDetail> fetchItems() throws IOException {
+        return PagedResourceHelper.getAllPrimaryIps(api, "", options);
+    }
+}
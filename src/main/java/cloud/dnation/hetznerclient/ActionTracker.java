@@ -0,0 +1,240 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks completion of many asynchronous actions using single poll loop.
+ * <p>All pending actions that are due for poll are requested in batches using {@link HetznerApi#getActions},
+ * instead of polling every action separately. Poll interval of every action starts at minimal interval
+ * and is doubled (up to maximal interval) whenever its progress didn't change since last poll.</p>
+ * <p>Returned futures complete once action status becomes {@code success} or {@code error},
+ * it's up to caller to inspect {@link ActionDetail#getStatus()}.</p>
+ */
+@Slf4j
+public class ActionTracker implements Closeable {
+    public static final String STATUS_SUCCESS = "success";
+    public static final String STATUS_ERROR = "error";
+    private static final int BATCH_SIZE = 50;
+
+    private final HetznerApi api;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownScheduler;
+    private final long minIntervalMillis;
+    private final long maxIntervalMillis;
+    private final Map<Long, TrackedAction> pending = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private ScheduledFuture<?> pollLoop;
+    private volatile boolean closed;
+
+    /**
+     * Create new tracker which polls at most every second and at least every 10 seconds.
+     *
+     * @param api {@link HetznerApi} used to poll actions
+     */
+    public ActionTracker(HetznerApi api) {
+        this(api, null, Duration.ofSeconds(1), Duration.ofSeconds(10));
+    }
+
+    /**
+     * Create new tracker.
+     *
+     * @param api {@link HetznerApi} used to poll actions
+     * @param scheduler scheduler to run poll loop on. When null, tracker creates (and owns) single daemon thread.
+     * @param minInterval interval used to poll actions that make progress
+     * @param maxInterval upper bound of poll interval of actions that don't make progress
+     */
+    public ActionTracker(HetznerApi api, ScheduledExecutorService scheduler, Duration minInterval,
+                         Duration maxInterval) {
+        Preconditions.checkArgument(!minInterval.isNegative() && !minInterval.isZero(),
+                "Minimal interval must be positive");
+        Preconditions.checkArgument(maxInterval.compareTo(minInterval) >= 0,
+                "Maximal interval must not be lower than minimal interval");
+        this.api = api;
+        this.ownScheduler = scheduler == null;
+        this.scheduler = scheduler != null ? scheduler : Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("hetzner-action-tracker-%d").setDaemon(true).build());
+        this.minIntervalMillis = minInterval.toMillis();
+        this.maxIntervalMillis = maxInterval.toMillis();
+    }
+
+    /**
+     * Track completion of action.
+     *
+     * @param actionId ID of action to track
+     * @return future that completes with final state of action
+     */
+    public CompletableFuture<ActionDetail> track(long actionId) {
+        Preconditions.checkState(!closed, "Tracker is closed");
+        final TrackedAction tracked = pending.computeIfAbsent(actionId, id -> new TrackedAction());
+        ensurePolling();
+        return tracked.future;
+    }
+
+    /**
+     * Track completion of action, returned by previous API call.
+     *
+     * @param action action to track
+     * @return future that completes with final state of action. Future is already completed if action is finished.
+     */
+    public CompletableFuture<ActionDetail> track(ActionDetail action) {
+        if (isFinished(action)) {
+            return CompletableFuture.completedFuture(action);
+        }
+        return track(action.getId());
+    }
+
+    /**
+     * Get number of actions which didn't finish yet.
+     *
+     * @return number of pending actions
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Stop polling. Futures of pending actions are cancelled.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (lock) {
+            if (pollLoop != null) {
+                pollLoop.cancel(false);
+                pollLoop = null;
+            }
+        }
+        pending.values().forEach(t -> t.future.completeExceptionally(new CancellationException("Tracker closed")));
+        pending.clear();
+        if (ownScheduler) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    static boolean isFinished(ActionDetail action) {
+        return STATUS_SUCCESS.equals(action.getStatus()) || STATUS_ERROR.equals(action.getStatus());
+    }
+
+    private void ensurePolling() {
+        synchronized (lock) {
+            if (pollLoop == null && !closed) {
+                pollLoop = scheduler.scheduleWithFixedDelay(this::poll, minIntervalMillis, minIntervalMillis,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void poll() {
+        final long now = System.currentTimeMillis();
+        final List<Long> due = new ArrayList<>();
+        pending.forEach((id, tracked) -> {
+            if (tracked.nextPollAt <= now) {
+                due.add(id);
+            }
+        });
+        for (List<Long> batch : Lists.partition(due, BATCH_SIZE)) {
+            try {
+                final List<ActionDetail> actions = PagedResourceHelper.fetchItems(null, (page, sel) ->
+                        api.getActions(batch, page, BATCH_SIZE), GetActionsResponse::getActions);
+                for (ActionDetail action : actions) {
+                    update(action, now);
+                }
+                for (Long id : batch) {
+                    if (actions.stream().noneMatch(a -> id.equals(a.getId()))) {
+                        complete(id, null, new NoSuchElementException("Action not found: " + id));
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to poll {} action(s)", batch.size(), e);
+                batch.forEach(id -> {
+                    final TrackedAction tracked = pending.get(id);
+                    if (tracked != null) {
+                        tracked.backOff(now);
+                    }
+                });
+            }
+        }
+        synchronized (lock) {
+            if (pending.isEmpty() && pollLoop != null) {
+                pollLoop.cancel(false);
+                pollLoop = null;
+            }
+        }
+    }
+
+    private void update(ActionDetail action, long now) {
+        final TrackedAction tracked = pending.get(action.getId());
+        if (tracked == null) {
+            return;
+        }
+        if (isFinished(action)) {
+            complete(action.getId(), action, null);
+            return;
+        }
+        final int progress = action.getProgress() != null ? action.getProgress() : 0;
+        if (progress > tracked.lastProgress) {
+            tracked.lastProgress = progress;
+            tracked.interval = minIntervalMillis;
+            tracked.nextPollAt = now + tracked.interval;
+        } else {
+            tracked.backOff(now);
+        }
+    }
+
+    private void complete(Long id, ActionDetail action, Throwable error) {
+        final TrackedAction tracked = pending.remove(id);
+        if (tracked == null) {
+            return;
+        }
+        if (error != null) {
+            tracked.future.completeExceptionally(error);
+        } else {
+            tracked.future.complete(action);
+        }
+    }
+
+    private class TrackedAction {
+        private final CompletableFuture<ActionDetail> future = new CompletableFuture<>();
+        private volatile long nextPollAt;
+        private long interval = minIntervalMillis;
+        private int lastProgress = -1;
+
+        private void backOff(long now) {
+            interval = Math.min(interval * 2, maxIntervalMillis);
+            nextPollAt = now + interval;
+        }
+    }
+}
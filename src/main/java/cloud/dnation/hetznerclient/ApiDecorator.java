@@ -0,0 +1,81 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import retrofit2.Call;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Base of {@link HetznerApi} decorators. Every {@link Call} produced by delegate is passed to
+ * {@link #decorate(Method, Call)}, which can wrap it to alter how it is executed.
+ */
+abstract class ApiDecorator implements InvocationHandler {
+    private final HetznerApi delegate;
+    private final HetznerApi proxy;
+
+    ApiDecorator(HetznerApi delegate) {
+        this.delegate = delegate;
+        this.proxy = (HetznerApi) Proxy.newProxyInstance(HetznerApi.class.getClassLoader(),
+                new Class<?>[]{HetznerApi.class}, this);
+    }
+
+    /**
+     * Decorate call produced by delegate.
+     *
+     * @param method API method that produced call
+     * @param call call to decorate
+     * @return decorated call or call itself
+     * @param <T> response body type
+     */
+    abstract <T> Call<T> decorate(Method method, Call<T> call);
+
+    /**
+     * Get decorated API.
+     *
+     * @return decorated API
+     */
+    public HetznerApi getApi() {
+        return proxy;
+    }
+
+    @Override
+    public Object invoke(Object p, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return p == args[0];
+                case "hashCode":
+                    return System.identityHashCode(p);
+                default:
+                    return getClass().getSimpleName() + "(" + delegate + ")";
+            }
+        }
+        final Object result;
+        try {
+            result = method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+        if (result instanceof Call) {
+            return decorate(method, (Call<?>) result);
+        }
+        return result;
+    }
+}
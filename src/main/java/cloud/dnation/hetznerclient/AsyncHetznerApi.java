@@ -0,0 +1,268 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous facade of {@link HetznerApi}.
+ * <p>Every operation enqueues underlying call to OkHttp dispatcher and returns {@link CompletableFuture},
+ * so many concurrent requests can share small pool of dispatcher threads.
+ * Futures complete with response body, or fail with {@link retrofit2.HttpException} if response code is not 2xx.</p>
+ */
+public class AsyncHetznerApi {
+    private final HetznerApi api;
+
+    /**
+     * Create asynchronous facade of given API proxy.
+     *
+     * @param api {@link HetznerApi} to delegate to
+     */
+    public AsyncHetznerApi(HetznerApi api) {
+        this.api = api;
+    }
+
+    /**
+     * Get underlying blocking API.
+     *
+     * @return underlying {@link HetznerApi}
+     */
+    public HetznerApi blocking() {
+        return api;
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getActionById(Long)}.
+     */
+    public CompletableFuture<ActionResponse> getActionById(Long actionId) {
+        return CallFutures.toFuture(api.getActionById(actionId));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getActions(List, int, int)}.
+     */
+    public CompletableFuture<GetActionsResponse> getActions(List<Long> ids, int page, int perPage) {
+        return CallFutures.toFuture(api.getActions(ids, page, perPage));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getImagesBySelector(String)}.
+     */
+    public CompletableFuture<GetImagesBySelectorResponse> getImagesBySelector(String selector) {
+        return CallFutures.toFuture(api.getImagesBySelector(selector));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getImageById(Long)}.
+     */
+    public CompletableFuture<GetImageByIdResponse> getImageById(Long id) {
+        return CallFutures.toFuture(api.getImageById(id));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getAllDatacentersWithName(String)}.
+     */
+    public CompletableFuture<GetDatacentersResponse> getAllDatacentersWithName(String name) {
+        return CallFutures.toFuture(api.getAllDatacentersWithName(name));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getAllDatacenters()}.
+     */
+    public CompletableFuture<GetDatacentersResponse> getAllDatacenters() {
+        return CallFutures.toFuture(api.getAllDatacenters());
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getAllLocationsWithName(String)}.
+     */
+    public CompletableFuture<GetLocationsResponse> getAllLocationsWithName(String name) {
+        return CallFutures.toFuture(api.getAllLocationsWithName(name));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getAllServerTypesWithName(String)}.
+     */
+    public CompletableFuture<GetServerTypesResponse> getAllServerTypesWithName(String name) {
+        return CallFutures.toFuture(api.getAllServerTypesWithName(name));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#deleteServer(long)}.
+     */
+    public CompletableFuture<ActionResponse> deleteServer(long id) {
+        return CallFutures.toFuture(api.deleteServer(id));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getServer(long)}.
+     */
+    public CompletableFuture<GetServerByIdResponse> getServer(long id) {
+        return CallFutures.toFuture(api.getServer(id));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#powerOffServer(long)}.
+     */
+    public CompletableFuture<ActionResponse> powerOffServer(long id) {
+        return CallFutures.toFuture(api.powerOffServer(id));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#createServer(CreateServerRequest)}.
+     */
+    public CompletableFuture<CreateServerResponse> createServer(CreateServerRequest request) {
+        return CallFutures.toFuture(api.createServer(request));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#createSshKey(CreateSshKeyRequest)}.
+     */
+    public CompletableFuture<CreateSshKeyResponse> createSshKey(CreateSshKeyRequest request) {
+        return CallFutures.toFuture(api.createSshKey(request));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#deleteSshKey(long)}.
+     */
+    public CompletableFuture<ErrorDetail> deleteSshKey(long id) {
+        return CallFutures.toFuture(api.deleteSshKey(id));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getSshKeysBySelector(String)}.
+     */
+    public CompletableFuture<GetSshKeysBySelectorResponse> getSshKeysBySelector(String selector) {
+        return CallFutures.toFuture(api.getSshKeysBySelector(selector));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getServersBySelector(String, int, int)}.
+     */
+    public CompletableFuture<GetServersBySelectorResponse> getServersBySelector(String selector,
+                                                                               int page, int perPage) {
+        return CallFutures.toFuture(api.getServersBySelector(selector, page, perPage));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getNetworkBySelector(String)}.
+     */
+    public CompletableFuture<GetNetworksBySelectorResponse> getNetworkBySelector(String selector) {
+        return CallFutures.toFuture(api.getNetworkBySelector(selector));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getNetworksBySelector(String, int, int)}.
+     */
+    public CompletableFuture<GetNetworksBySelectorResponse> getNetworksBySelector(String selector,
+                                                                                 int page, int perPage) {
+        return CallFutures.toFuture(api.getNetworksBySelector(selector, page, perPage));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getNetworkById(long)}.
+     */
+    public CompletableFuture<GetNetworkByIdResponse> getNetworkById(long id) {
+        return CallFutures.toFuture(api.getNetworkById(id));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getFirewallsBySelector(String)}.
+     */
+    public CompletableFuture<GetFirewallsBySelectorResponse> getFirewallsBySelector(String selector) {
+        return CallFutures.toFuture(api.getFirewallsBySelector(selector));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getFirewallsBySelector(String, int, int)}.
+     */
+    public CompletableFuture<GetFirewallsBySelectorResponse> getFirewallsBySelector(String selector,
+                                                                                   int page, int perPage) {
+        return CallFutures.toFuture(api.getFirewallsBySelector(selector, page, perPage));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getFirewallById(long)}.
+     */
+    public CompletableFuture<GetFirewallByIdResponse> getFirewallById(long id) {
+        return CallFutures.toFuture(api.getFirewallById(id));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getPlacementGroups(String)}.
+     */
+    public CompletableFuture<GetPlacementGroupsResponse> getPlacementGroups(String selector) {
+        return CallFutures.toFuture(api.getPlacementGroups(selector));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getPlacementGroupById(long)}.
+     */
+    public CompletableFuture<GetPlacementGroupByIdResponse> getPlacementGroupById(long id) {
+        return CallFutures.toFuture(api.getPlacementGroupById(id));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getPrimaryIpsBySelector(String, int, int)}.
+     */
+    public CompletableFuture<GetAllPrimaryIpsResponse> getPrimaryIpsBySelector(String selector, int page, int perPage) {
+        return CallFutures.toFuture(api.getPrimaryIpsBySelector(selector, page, perPage));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getAllPrimaryIps(String)}.
+     */
+    public CompletableFuture<GetAllPrimaryIpsResponse> getAllPrimaryIps(String selector) {
+        return CallFutures.toFuture(api.getAllPrimaryIps(selector));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#deletePrimaryIp(long)}.
+     */
+    public CompletableFuture<ErrorDetail> deletePrimaryIp(long id) {
+        return CallFutures.toFuture(api.deletePrimaryIp(id));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getVolumeById(long)}.
+     */
+    public CompletableFuture<GetVolumeByIdResponse> getVolumeById(long id) {
+        return CallFutures.toFuture(api.getVolumeById(id));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getVolumes(String)}.
+     */
+    public CompletableFuture<GetVolumesResponse> getVolumes(String selector) {
+        return CallFutures.toFuture(api.getVolumes(selector));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getVolumes(String, int, int)}.
+     */
+    public CompletableFuture<GetVolumesResponse> getVolumes(String selector, int page, int perPage) {
+        return CallFutures.toFuture(api.getVolumes(selector, page, perPage));
+    }
+
+    /**
+     * Asynchronous variant of {@link HetznerApi#getResourceActions(String, List, int, int)}.
+     */
+    public CompletableFuture<GetActionsResponse> getResourceActions(String resource, List<Long> ids,
+                                                                    int page, int perPage) {
+        return CallFutures.toFuture(api.getResourceActions(resource, ids, page, perPage));
+    }
+}
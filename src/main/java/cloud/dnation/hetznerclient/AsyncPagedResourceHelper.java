@@ -0,0 +1,158 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Asynchronous counterpart of {@link PagedResourceHelper}, composed on top of {@link AsyncHetznerApi}.
+ * No thread is blocked while pages are being fetched.
+ */
+@UtilityClass
+public class AsyncPagedResourceHelper {
+    /**
+     * Consume all items from paginated REST endpoint.
+     * <p>Once first page is received, remaining pages are requested in at most
+     * {@link PagingOptions#getParallelism()} concurrent lanes. Items are returned in page order.</p>
+     *
+     * @param labelSelector label selector to restrict items only to those that match selector
+     * @param pageSupplier {@link BiFunction} that takes page index (zero based) and selector and produces
+     *                     future response
+     * @param itemsGetter {@link Function} that takes response from pageSupplier and extracts list of items
+     * @param options paging options
+     * @return future of all items combined to single list
+     * @param <T> item type
+     * @param <X> REST endpoint response type
+     */
+    public static <T extends IdentifiableResource, X extends AbstractSearchResponse>
+    CompletableFuture<List<T>> fetchItems(String labelSelector,
+                                          BiFunction<Integer, String, CompletableFuture<X>> pageSupplier,
+                                          Function<X, List<T>> itemsGetter, PagingOptions options) {
+        return fetchPage(labelSelector, pageSupplier, 0).thenCompose(first -> {
+            final List<T> result = new ArrayList<>(itemsGetter.apply(first));
+            final Integer pageCount = PagedResourceHelper.pageCount(PagedResourceHelper.getPagination(first));
+            if (pageCount == null || pageCount <= 1 || options.getParallelism() <= 1
+                    || PagedResourceHelper.getPagination(first).getNextPage() == null) {
+                return fetchRemaining(labelSelector, pageSupplier, itemsGetter, result, first, 1);
+            }
+            return fetchPagesConcurrently(labelSelector, pageSupplier, 1, pageCount, options.getParallelism())
+                    .thenCompose(pages -> {
+                        for (X page : pages) {
+                            result.addAll(itemsGetter.apply(page));
+                        }
+                        // pages not covered by page count (if any) are consumed one after another
+                        return fetchRemaining(labelSelector, pageSupplier, itemsGetter, result,
+                                pages.get(pages.size() - 1), pageCount);
+                    });
+        });
+    }
+
+    public static CompletableFuture<List<PrimaryIpDetail>> getAllPrimaryIps(AsyncHetznerApi api, String labelSelector,
+                                                                            PagingOptions options) {
+        return fetchItems(labelSelector, (pageId, sel) ->
+                        api.getPrimaryIpsBySelector(sel, pageId, options.getPerPage()),
+                GetAllPrimaryIpsResponse::getPrimaryIps, options);
+    }
+
+    public static CompletableFuture<List<ServerDetail>> getAllServers(AsyncHetznerApi api, String labelSelector,
+                                                                      PagingOptions options) {
+        return fetchItems(labelSelector, (pageId, sel) ->
+                        api.getServersBySelector(sel, pageId, options.getPerPage()),
+                GetServersBySelectorResponse::getServers, options);
+    }
+
+    public static CompletableFuture<List<VolumeDetail>> getAllVolumes(AsyncHetznerApi api, String labelSelector,
+                                                                      PagingOptions options) {
+        return fetchItems(labelSelector, (pageId, sel) ->
+                        api.getVolumes(sel, pageId, options.getPerPage()),
+                GetVolumesResponse::getVolumes, options);
+    }
+
+    public static CompletableFuture<List<NetworkDetail>> getAllNetworks(AsyncHetznerApi api, String labelSelector,
+                                                                        PagingOptions options) {
+        return fetchItems(labelSelector, (pageId, sel) ->
+                        api.getNetworksBySelector(sel, pageId, options.getPerPage()),
+                GetNetworksBySelectorResponse::getNetworks, options);
+    }
+
+    public static CompletableFuture<List<FirewallDetail>> getAllFirewalls(AsyncHetznerApi api, String labelSelector,
+                                                                          PagingOptions options) {
+        return fetchItems(labelSelector, (pageId, sel) ->
+                        api.getFirewallsBySelector(sel, pageId, options.getPerPage()),
+                GetFirewallsBySelectorResponse::getFirewalls, options);
+    }
+
+    private static <T, X extends AbstractSearchResponse> CompletableFuture<List<T>> fetchRemaining(
+            String labelSelector, BiFunction<Integer, String, CompletableFuture<X>> pageSupplier,
+            Function<X, List<T>> itemsGetter, List<T> result, X previous, int index) {
+        if (PagedResourceHelper.getPagination(previous).getNextPage() == null) {
+            return CompletableFuture.completedFuture(result);
+        }
+        return fetchPage(labelSelector, pageSupplier, index).thenCompose(body -> {
+            result.addAll(itemsGetter.apply(body));
+            return fetchRemaining(labelSelector, pageSupplier, itemsGetter, result, body, index + 1);
+        });
+    }
+
+    private static <X extends AbstractSearchResponse> CompletableFuture<List<X>> fetchPagesConcurrently(
+            String labelSelector, BiFunction<Integer, String, CompletableFuture<X>> pageSupplier,
+            int fromIndex, int toIndex, int parallelism) {
+        final AtomicReferenceArray<X> pages = new AtomicReferenceArray<>(toIndex - fromIndex);
+        final CompletableFuture<?>[] lanes = new CompletableFuture<?>[Math.min(parallelism, toIndex - fromIndex)];
+        for (int lane = 0; lane < lanes.length; lane++) {
+            lanes[lane] = fetchLane(labelSelector, pageSupplier, fromIndex + lane, lanes.length, fromIndex, pages);
+        }
+        return CompletableFuture.allOf(lanes).thenApply(v -> {
+            final List<X> result = new ArrayList<>(pages.length());
+            for (int i = 0; i < pages.length(); i++) {
+                result.add(pages.get(i));
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Fetch every n-th page, one after another.
+     */
+    private static <X extends AbstractSearchResponse> CompletableFuture<Void> fetchLane(
+            String labelSelector, BiFunction<Integer, String, CompletableFuture<X>> pageSupplier,
+            int index, int step, int fromIndex, AtomicReferenceArray<X> pages) {
+        if (index - fromIndex >= pages.length()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return fetchPage(labelSelector, pageSupplier, index).thenCompose(body -> {
+            pages.set(index - fromIndex, body);
+            return fetchLane(labelSelector, pageSupplier, index + step, step, fromIndex, pages);
+        });
+    }
+
+    private static <X extends AbstractSearchResponse> CompletableFuture<X> fetchPage(
+            String labelSelector, BiFunction<Integer, String, CompletableFuture<X>> pageSupplier, int index) {
+        return pageSupplier.apply(index, labelSelector).thenApply(body -> {
+            Objects.requireNonNull(body, "Missing response body");
+            PagedResourceHelper.getPagination(body);
+            return body;
+        });
+    }
+}
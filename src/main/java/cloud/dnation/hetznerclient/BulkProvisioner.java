@@ -0,0 +1,332 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import retrofit2.Call;
+import retrofit2.HttpException;
+import retrofit2.Response;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Provisions batches of servers.
+ * <p>Every server goes through pipeline of creation, waiting for its actions (using shared {@link ActionTracker},
+ * so actions of all servers are polled in batches) and confirmation that server is {@code running}.
+ * At most {@link ProvisioningOptions#getConcurrency()} pipelines run at once. Once all pipelines finish,
+ * servers are deleted according to {@link ProvisioningOptions#getRollbackPolicy()}. When provisioning is interrupted,
+ * running pipelines are cancelled, so that servers created so far are deleted according to same policy.</p>
+ * <p>Example:</p>
+ * <pre>
+ *     try (BulkProvisioner provisioner = new BulkProvisioner(api, ProvisioningOptions.builder()
+ *             .concurrency(20)
+ *             .rollbackPolicy(RollbackPolicy.FAILED)
+ *             .governor(RateLimitGovernor.forToken(token))
+ *             .build())) {
+ *         List&lt;ProvisioningResult&gt; results = provisioner.provision(requests);
+ *     }
+ * </pre>
+ */
+@Slf4j
+public class BulkProvisioner implements Closeable {
+    private static final String STATUS_RUNNING = "running";
+
+    /**
+     * Estimated number of requests needed to provision single server, used to pace against rate limit.
+     */
+    private static final int REQUESTS_PER_SERVER = 4;
+
+    private static final Executor DEFAULT_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+            .setNameFormat("hetzner-provisioner-%d")
+            .setDaemon(true)
+            .build());
+
+    private final HetznerApi api;
+    private final ActionTracker tracker;
+    private final boolean ownTracker;
+    private final ProvisioningOptions options;
+
+    /**
+     * Create new provisioner with its own {@link ActionTracker}.
+     *
+     * @param api {@link HetznerApi} used to create servers
+     * @param options provisioning options
+     */
+    public BulkProvisioner(HetznerApi api, ProvisioningOptions options) {
+        this(api, new ActionTracker(api), true, options);
+    }
+
+    /**
+     * Create new provisioner.
+     *
+     * @param api {@link HetznerApi} used to create servers
+     * @param tracker tracker used to wait for actions, it's not closed by provisioner
+     * @param options provisioning options
+     */
+    public BulkProvisioner(HetznerApi api, ActionTracker tracker, ProvisioningOptions options) {
+        this(api, tracker, false, options);
+    }
+
+    private BulkProvisioner(HetznerApi api, ActionTracker tracker, boolean ownTracker, ProvisioningOptions options) {
+        Preconditions.checkArgument(options.getConcurrency() > 0, "Concurrency must be positive");
+        this.api = api;
+        this.tracker = tracker;
+        this.ownTracker = ownTracker;
+        this.options = options;
+    }
+
+    /**
+     * Provision batch of servers, blocking until all of them are either ready or failed and rollback is done.
+     *
+     * @param requests requests to create servers
+     * @return results in same order as requests
+     * @throws InterruptedException when interrupted while waiting for pipelines, after pipelines were cancelled
+     *                              and rollback was done
+     */
+    public List<ProvisioningResult> provision(List<CreateServerRequest> requests) throws InterruptedException {
+        final Executor executor = VirtualThreads.select(options.getExecutor(), options.isVirtualThreads(),
+                DEFAULT_EXECUTOR);
+        final Semaphore permits = new Semaphore(options.getConcurrency());
+        final List<Pipeline> pipelines = new ArrayList<>(requests.size());
+        final List<CompletableFuture<ProvisioningResult>> futures = new ArrayList<>(requests.size());
+        try {
+            for (CreateServerRequest request : requests) {
+                permits.acquire();
+                final Pipeline pipeline = new Pipeline();
+                pipelines.add(pipeline);
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return provisionOne(request, pipeline);
+                    } finally {
+                        permits.release();
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+        } catch (InterruptedException e) {
+            log.info("Provisioning interrupted, cancelling {} pipelines", pipelines.size());
+            pipelines.forEach(Pipeline::cancel);
+            rollback(join(futures));
+            throw e;
+        } catch (ExecutionException e) {
+            // provisionOne reports failures in its result
+            throw new IllegalStateException(e.getCause());
+        }
+        return rollback(join(futures));
+    }
+
+    private static List<ProvisioningResult> join(List<CompletableFuture<ProvisioningResult>> futures) {
+        final List<ProvisioningResult> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<ProvisioningResult> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    private ProvisioningResult provisionOne(CreateServerRequest request, Pipeline pipeline) {
+        final ProvisioningResult.ProvisioningResultBuilder result = ProvisioningResult.builder().request(request);
+        if (!pipeline.begin()) {
+            return result.status(ProvisioningResult.Status.FAILED)
+                    .error(new CancellationException("Provisioning cancelled")).build();
+        }
+        try {
+            awaitRateLimit();
+            final Response<CreateServerResponse> response = pipeline.execute(api.createServer(request), false);
+            if (!response.isSuccessful() || response.body() == null) {
+                throw new HttpException(response);
+            }
+            final CreateServerResponse created = response.body();
+            result.server(created.getServer());
+            final long deadline = System.nanoTime() + options.getReadyTimeout().toNanos();
+            awaitAction(created.getAction(), deadline);
+            if (created.getNextActions() != null) {
+                for (ActionDetail action : created.getNextActions()) {
+                    awaitAction(action, deadline);
+                }
+            }
+            result.server(awaitRunning(created.getServer().getId(), deadline, pipeline));
+            return result.status(ProvisioningResult.Status.SUCCEEDED).build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return result.status(ProvisioningResult.Status.FAILED).error(e).build();
+        } catch (Exception e) {
+            log.debug("Provisioning of server {} failed", request.getName(), e);
+            return result.status(ProvisioningResult.Status.FAILED).error(e).build();
+        } finally {
+            pipeline.end();
+        }
+    }
+
+    private void awaitRateLimit() throws InterruptedException {
+        final RateLimitGovernor governor = options.getGovernor();
+        if (governor != null) {
+            // queue up for permits, so that pipelines started at once don't all see same free budget
+            governor.awaitPermits(REQUESTS_PER_SERVER);
+        }
+    }
+
+    private void awaitAction(ActionDetail action, long deadline) throws InterruptedException, TimeoutException,
+            ExecutionException {
+        if (action == null) {
+            return;
+        }
+        final ActionDetail finished = tracker.track(action)
+                .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        if (ActionTracker.STATUS_ERROR.equals(finished.getStatus())) {
+            throw new IllegalStateException("Action " + finished.getCommand() + " failed: "
+                    + (finished.getError() != null ? finished.getError().getMessage() : "unknown error"));
+        }
+    }
+
+    private ServerDetail awaitRunning(long serverId, long deadline, Pipeline pipeline) throws IOException,
+            InterruptedException, TimeoutException {
+        while (true) {
+            final Response<GetServerByIdResponse> response = pipeline.execute(api.getServer(serverId), true);
+            if (!response.isSuccessful() || response.body() == null) {
+                throw new HttpException(response);
+            }
+            final ServerDetail server = response.body().getServer();
+            if (STATUS_RUNNING.equals(server.getStatus())) {
+                return server;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                throw new TimeoutException("Server " + serverId + " is " + server.getStatus()
+                        + " after " + options.getReadyTimeout());
+            }
+            TimeUnit.MILLISECONDS.sleep(options.getStatusPollInterval().toMillis());
+        }
+    }
+
+    private List<ProvisioningResult> rollback(List<ProvisioningResult> results) {
+        final RollbackPolicy policy = options.getRollbackPolicy();
+        final boolean anyFailed = results.stream().anyMatch(r -> !r.isSucceeded());
+        if (policy == RollbackPolicy.NONE || !anyFailed) {
+            return results;
+        }
+        final List<ProvisioningResult> rolledBack = new ArrayList<>(results.size());
+        for (ProvisioningResult result : results) {
+            final boolean delete = result.getServer() != null
+                    && (policy == RollbackPolicy.ALL || !result.isSucceeded());
+            rolledBack.add(delete ? delete(result) : result);
+        }
+        return rolledBack;
+    }
+
+    private ProvisioningResult delete(ProvisioningResult result) {
+        final long serverId = result.getServer().getId();
+        try {
+            final Response<ActionResponse> response = api.deleteServer(serverId).execute();
+            if (!response.isSuccessful()) {
+                throw new HttpException(response);
+            }
+            log.info("Deleted server {} during rollback", serverId);
+            return result.toBuilder().status(ProvisioningResult.Status.ROLLED_BACK).build();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Unable to delete server {} during rollback", serverId, e);
+            if (result.getError() != null) {
+                e.addSuppressed(result.getError());
+            }
+            return result.toBuilder().status(ProvisioningResult.Status.ROLLBACK_FAILED).error(e).build();
+        }
+    }
+
+    /**
+     * Pipeline of single server, which can be cancelled by thread waiting for batch.
+     * Cancellation interrupts thread running pipeline and cancels its current call, as blocking I/O
+     * doesn't respond to interrupts. Call which creates server isn't cancelled, so that ID of created server
+     * is known and server can be rolled back; pipeline is interrupted once that call completes.
+     */
+    private static class Pipeline {
+        private Thread thread;
+        private Call<?> call;
+        private boolean cancellable;
+        private boolean cancelled;
+
+        synchronized boolean begin() {
+            if (cancelled) {
+                return false;
+            }
+            thread = Thread.currentThread();
+            return true;
+        }
+
+        synchronized void end() {
+            thread = null;
+            if (cancelled) {
+                // don't leak interrupt to next task of pooled thread
+                Thread.interrupted();
+            }
+        }
+
+        <T> Response<T> execute(Call<T> call, boolean cancellable) throws IOException {
+            synchronized (this) {
+                if (cancelled) {
+                    throw new InterruptedIOException("Provisioning cancelled");
+                }
+                this.call = call;
+                this.cancellable = cancellable;
+            }
+            try {
+                return call.execute();
+            } finally {
+                synchronized (this) {
+                    this.call = null;
+                    if (cancelled && !cancellable) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            if (call != null && !cancellable) {
+                // interrupted once call completes
+                return;
+            }
+            if (call != null) {
+                call.cancel();
+            }
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+    }
+
+    /**
+     * Close {@link ActionTracker} if it's owned by this provisioner.
+     */
+    @Override
+    public void close() {
+        if (ownTracker) {
+            tracker.close();
+        }
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import retrofit2.Call;
+import retrofit2.HttpException;
+import retrofit2.Response;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Removes servers, primary IPs and SSH keys matching label selector.
+ * <p>Servers are removed first (optionally powered off before), primary IPs and SSH keys once all server
+ * deletions finished, as they can't be removed while in use. Resources of each phase are removed concurrently,
+ * mutating requests are paced by {@link TeardownOptions#getRequestsPerSecond()} and resulting actions
+ * are tracked to completion using {@link ActionTracker}.</p>
+ * <p>Example:</p>
+ * <pre>
+ *     try (BulkTeardown teardown = new BulkTeardown(api, TeardownOptions.DEFAULT)) {
+ *         TeardownReport report = teardown.teardown("jenkins.io/cloud=hcloud-01");
+ *     }
+ * </pre>
+ */
+@Slf4j
+public class BulkTeardown implements Closeable {
+    private static final Executor DEFAULT_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+            .setNameFormat("hetzner-teardown-%d")
+            .setDaemon(true)
+            .build());
+
+    private final HetznerApi api;
+    private final ActionTracker tracker;
+    private final boolean ownTracker;
+    private final TeardownOptions options;
+
+    /**
+     * Create new teardown with its own {@link ActionTracker}.
+     *
+     * @param api {@link HetznerApi} used to remove resources
+     * @param options teardown options
+     */
+    public BulkTeardown(HetznerApi api, TeardownOptions options) {
+        this(api, new ActionTracker(api), true, options);
+    }
+
+    /**
+     * Create new teardown.
+     *
+     * @param api {@link HetznerApi} used to remove resources
+     * @param tracker tracker used to wait for actions, it's not closed by teardown
+     * @param options teardown options
+     */
+    public BulkTeardown(HetznerApi api, ActionTracker tracker, TeardownOptions options) {
+        this(api, tracker, false, options);
+    }
+
+    private BulkTeardown(HetznerApi api, ActionTracker tracker, boolean ownTracker, TeardownOptions options) {
+        Preconditions.checkArgument(options.getConcurrency() > 0, "Concurrency must be positive");
+        Preconditions.checkArgument(options.getRequestsPerSecond() > 0, "Requests per second must be positive");
+        this.api = api;
+        this.tracker = tracker;
+        this.ownTracker = ownTracker;
+        this.options = options;
+    }
+
+    /**
+     * Remove all resources matching label selector, blocking until done.
+     * Failure to remove single resource doesn't stop removal of others, it's recorded in report.
+     *
+     * @param labelSelector label selector of resources to remove, must not be empty
+     * @return report of removal
+     * @throws IOException if resources can't be listed
+     * @throws InterruptedException when interrupted while waiting for removals, after running removals
+     *                              were cancelled
+     */
+    public TeardownReport teardown(String labelSelector) throws IOException, InterruptedException {
+        Preconditions.checkArgument(labelSelector != null && !labelSelector.trim().isEmpty(),
+                "Label selector must not be empty");
+        final RateLimiter rateLimiter = RateLimiter.create(options.getRequestsPerSecond());
+        final List<TeardownReport.Item> items = new ArrayList<>();
+        if (options.isDeleteServers()) {
+            items.addAll(runAll(PagedResourceHelper.getAllServers(api, labelSelector),
+                    (server, task) -> deleteServer(server, rateLimiter, task)));
+        }
+        if (options.isDeletePrimaryIps()) {
+            items.addAll(runAll(PagedResourceHelper.getAllPrimaryIps(api, labelSelector),
+                    (ip, task) -> deletePrimaryIp(ip, rateLimiter, task)));
+        }
+        if (options.isDeleteSshKeys()) {
+            items.addAll(runAll(PagedResourceHelper.getAllSshKeys(api, labelSelector, PagingOptions.DEFAULT),
+                    (key, task) -> deleteSshKey(key, rateLimiter, task)));
+        }
+        final TeardownReport report = new TeardownReport(items);
+        log.info("Teardown of '{}' removed {} servers, {} primary IPs and {} SSH keys, {} failures", labelSelector,
+                report.getRemovedCount(TeardownReport.ResourceType.SERVER),
+                report.getRemovedCount(TeardownReport.ResourceType.PRIMARY_IP),
+                report.getRemovedCount(TeardownReport.ResourceType.SSH_KEY),
+                report.getFailures().size());
+        return report;
+    }
+
+    private <T> List<TeardownReport.Item> runAll(List<T> resources,
+                                                 BiFunction<T, Task, TeardownReport.Item> removal)
+            throws InterruptedException {
+        final Executor executor = VirtualThreads.select(options.getExecutor(), options.isVirtualThreads(),
+                DEFAULT_EXECUTOR);
+        final Semaphore permits = new Semaphore(options.getConcurrency());
+        final List<Task> tasks = new ArrayList<>(resources.size());
+        final List<CompletableFuture<TeardownReport.Item>> futures = new ArrayList<>(resources.size());
+        try {
+            for (T resource : resources) {
+                permits.acquire();
+                final Task task = new Task();
+                tasks.add(task);
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return task.run(() -> removal.apply(resource, task));
+                    } finally {
+                        permits.release();
+                    }
+                }, executor));
+            }
+            final List<TeardownReport.Item> result = new ArrayList<>(futures.size());
+            for (CompletableFuture<TeardownReport.Item> future : futures) {
+                result.add(future.get());
+            }
+            return result;
+        } catch (InterruptedException e) {
+            log.info("Teardown interrupted, cancelling {} removals", tasks.size());
+            tasks.forEach(Task::cancel);
+            throw e;
+        } catch (ExecutionException e) {
+            // tasks report failures in their items
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private TeardownReport.Item deleteServer(ServerDetail server, RateLimiter rateLimiter, Task task) {
+        final List<ActionDetail> actions = new ArrayList<>();
+        try {
+            if (options.isPowerOff() && !"off".equals(server.getStatus())) {
+                rateLimiter.acquire();
+                actions.add(awaitAction(task.execute(api.powerOffServer(server.getId()))));
+            }
+            rateLimiter.acquire();
+            actions.add(awaitAction(task.execute(api.deleteServer(server.getId()))));
+            return new TeardownReport.Item(TeardownReport.ResourceType.SERVER, server.getId(), server.getName(),
+                    ImmutableList.copyOf(actions), null);
+        } catch (Exception e) {
+            return failed(TeardownReport.ResourceType.SERVER, server.getId(), server.getName(), actions, e);
+        }
+    }
+
+    private TeardownReport.Item deletePrimaryIp(PrimaryIpDetail ip, RateLimiter rateLimiter, Task task) {
+        try {
+            rateLimiter.acquire();
+            checkResponse(task.execute(api.deletePrimaryIp(ip.getId())));
+            return new TeardownReport.Item(TeardownReport.ResourceType.PRIMARY_IP, ip.getId(), ip.getName(),
+                    ImmutableList.of(), null);
+        } catch (Exception e) {
+            return failed(TeardownReport.ResourceType.PRIMARY_IP, ip.getId(), ip.getName(), ImmutableList.of(), e);
+        }
+    }
+
+    private TeardownReport.Item deleteSshKey(SshKeyDetail key, RateLimiter rateLimiter, Task task) {
+        try {
+            rateLimiter.acquire();
+            checkResponse(task.execute(api.deleteSshKey(key.getId())));
+            return new TeardownReport.Item(TeardownReport.ResourceType.SSH_KEY, key.getId(), key.getName(),
+                    ImmutableList.of(), null);
+        } catch (Exception e) {
+            return failed(TeardownReport.ResourceType.SSH_KEY, key.getId(), key.getName(), ImmutableList.of(), e);
+        }
+    }
+
+    private static TeardownReport.Item failed(TeardownReport.ResourceType type, long id, String name,
+                                              List<ActionDetail> actions, Exception e) {
+        if (e instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        log.warn("Unable to remove {} {} ({}): {}", type, id, name, e.toString());
+        return new TeardownReport.Item(type, id, name, ImmutableList.copyOf(actions), e);
+    }
+
+    private static void checkResponse(Response<?> response) {
+        if (!response.isSuccessful()) {
+            throw new HttpException(response);
+        }
+    }
+
+    private ActionDetail awaitAction(Response<ActionResponse> response) throws InterruptedException,
+            ExecutionException, TimeoutException {
+        checkResponse(response);
+        final ActionDetail action = tracker.track(response.body().getAction())
+                .get(options.getActionTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        if (ActionTracker.STATUS_ERROR.equals(action.getStatus())) {
+            throw new IllegalStateException("Action " + action.getCommand() + " failed: "
+                    + (action.getError() != null ? action.getError().getMessage() : "unknown error"));
+        }
+        return action;
+    }
+
+    /**
+     * Removal of single resource, which can be cancelled by thread waiting for phase.
+     * Cancellation interrupts thread running removal and cancels its current call, as blocking I/O
+     * doesn't respond to interrupts. No call is started once removal is cancelled.
+     */
+    private static class Task {
+        private Thread thread;
+        private Call<?> call;
+        private boolean cancelled;
+
+        TeardownReport.Item run(Supplier<TeardownReport.Item> removal) {
+            synchronized (this) {
+                if (cancelled) {
+                    throw new CancellationException("Teardown cancelled");
+                }
+                thread = Thread.currentThread();
+            }
+            try {
+                return removal.get();
+            } finally {
+                synchronized (this) {
+                    thread = null;
+                    if (cancelled) {
+                        // don't leak interrupt to next task of pooled thread
+                        Thread.interrupted();
+                    }
+                }
+            }
+        }
+
+        <T> Response<T> execute(Call<T> call) throws IOException {
+            synchronized (this) {
+                if (cancelled) {
+                    throw new InterruptedIOException("Teardown cancelled");
+                }
+                this.call = call;
+            }
+            try {
+                return call.execute();
+            } finally {
+                synchronized (this) {
+                    this.call = null;
+                }
+            }
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            if (call != null) {
+                call.cancel();
+            }
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+    }
+
+    /**
+     * Close {@link ActionTracker} if it's owned by this teardown.
+     */
+    @Override
+    public void close() {
+        if (ownTracker) {
+            tracker.close();
+        }
+    }
+}
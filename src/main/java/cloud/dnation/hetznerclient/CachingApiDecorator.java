@@ -0,0 +1,160 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableMap;
+import retrofit2.Call;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HetznerApi} decorator which caches successful responses of selected methods.
+ * <p>Each method has its own cache with bounded size and time-to-live. Concurrent identical requests
+ * are coalesced into single request. Responses with non-2xx status code and failures are not cached.
+ * Cached response bodies are shared between callers and must not be modified.</p>
+ * <p>Example:</p>
+ * <pre>
+ *     CachingApiDecorator caching = new CachingApiDecorator(ClientFactory.create(() -&gt; token));
+ *     HetznerApi api = caching.getApi();
+ * </pre>
+ */
+public class CachingApiDecorator extends ApiDecorator {
+    /**
+     * Time-to-live of catalog methods cached by default.
+     */
+    public static final Map<String, Duration> DEFAULT_TTLS = ImmutableMap.<String, Duration>builder()
+            .put("getAllDatacenters", Duration.ofHours(1))
+            .put("getAllDatacentersWithName", Duration.ofHours(1))
+            .put("getAllLocationsWithName", Duration.ofHours(1))
+            .put("getAllServerTypesWithName", Duration.ofHours(1))
+            .put("getImageById", Duration.ofMinutes(10))
+            .build();
+
+    /**
+     * Default maximum number of responses kept per method.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 256;
+
+    private final Map<String, Cache<Object, CompletableFuture<?>>> caches;
+
+    /**
+     * Create decorator which caches methods listed in {@link #DEFAULT_TTLS}.
+     *
+     * @param api API to decorate
+     */
+    public CachingApiDecorator(HetznerApi api) {
+        this(api, DEFAULT_TTLS, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Create new decorator.
+     *
+     * @param api API to decorate
+     * @param ttls time-to-live of responses, keyed by name of {@link HetznerApi} method to cache
+     * @param maximumSize maximum number of responses kept per method
+     */
+    public CachingApiDecorator(HetznerApi api, Map<String, Duration> ttls, long maximumSize) {
+        super(api);
+        final Map<String, Cache<Object, CompletableFuture<?>>> map = new HashMap<>();
+        ttls.forEach((name, ttl) -> {
+            Preconditions.checkArgument(Arrays.stream(HetznerApi.class.getMethods())
+                    .anyMatch(m -> m.getName().equals(name)), "Unknown method: %s", name);
+            map.put(name, CacheBuilder.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfterWrite(ttl.toMillis(), TimeUnit.MILLISECONDS)
+                    .recordStats()
+                    .build());
+        });
+        this.caches = ImmutableMap.copyOf(map);
+    }
+
+    @Override
+    <T> Call<T> decorate(Method method, Call<T> call) {
+        final Cache<Object, CompletableFuture<?>> cache = caches.get(method.getName());
+        if (cache == null) {
+            return call;
+        }
+        return new SharedCall<>(call, (key, candidate) -> {
+            final CompletableFuture<?> shared;
+            try {
+                shared = cache.get(key, () -> candidate);
+            } catch (ExecutionException e) {
+                // loader can't fail
+                throw new IllegalStateException(e);
+            }
+            if (shared == candidate) {
+                candidate.whenComplete((outcome, error) -> {
+                    if (error != null || !((SharedCall.Outcome<?>) outcome).isSuccessful()) {
+                        cache.asMap().remove(key, candidate);
+                    }
+                });
+            }
+            return shared;
+        });
+    }
+
+    /**
+     * Discard all cached responses of given method.
+     *
+     * @param method name of {@link HetznerApi} method
+     */
+    public void invalidate(String method) {
+        final Cache<Object, CompletableFuture<?>> cache = caches.get(method);
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Discard all cached responses.
+     */
+    public void invalidateAll() {
+        caches.values().forEach(Cache::invalidateAll);
+    }
+
+    /**
+     * Get statistics of cache of given method. Coalesced requests are counted as hits.
+     *
+     * @param method name of {@link HetznerApi} method
+     * @return cache statistics, empty if method is not cached
+     */
+    public CacheStats getStats(String method) {
+        final Cache<Object, CompletableFuture<?>> cache = caches.get(method);
+        return cache != null ? cache.stats() : new CacheStats(0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Get statistics of all caches combined.
+     *
+     * @return cache statistics
+     */
+    public CacheStats getStats() {
+        return caches.values().stream()
+                .map(Cache::stats)
+                .reduce(new CacheStats(0, 0, 0, 0, 0, 0), CacheStats::plus);
+    }
+}
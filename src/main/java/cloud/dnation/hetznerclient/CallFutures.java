@@ -0,0 +1,98 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import lombok.experimental.UtilityClass;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.HttpException;
+import retrofit2.Response;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Bridge between Retrofit {@link Call} and {@link CompletableFuture}.
+ * Calls are executed using {@link Call#enqueue(Callback)}, so no thread is blocked while waiting for response.
+ */
+@UtilityClass
+public class CallFutures {
+    /**
+     * Enqueue call and expose its response as {@link CompletableFuture}.
+     * Cancelling returned future cancels the call.
+     *
+     * @param call call to enqueue
+     * @return future which completes with response, regardless of its status code
+     * @param <T> response body type
+     */
+    public static <T> CompletableFuture<Response<T>> toResponseFuture(Call<T> call) {
+        final CallFuture<Response<T>> future = new CallFuture<>(call);
+        call.enqueue(new Callback<T>() {
+            @Override
+            public void onResponse(Call<T> c, Response<T> response) {
+                future.complete(response);
+            }
+
+            @Override
+            public void onFailure(Call<T> c, Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Enqueue call and expose its response body as {@link CompletableFuture}.
+     * Cancelling returned future cancels the call.
+     *
+     * @param call call to enqueue
+     * @return future which completes with response body, or fails with {@link HttpException}
+     * if response code is not 2xx
+     * @param <T> response body type
+     */
+    public static <T> CompletableFuture<T> toFuture(Call<T> call) {
+        final CallFuture<T> future = new CallFuture<>(call);
+        call.enqueue(new Callback<T>() {
+            @Override
+            public void onResponse(Call<T> c, Response<T> response) {
+                if (response.isSuccessful()) {
+                    future.complete(response.body());
+                } else {
+                    future.completeExceptionally(new HttpException(response));
+                }
+            }
+
+            @Override
+            public void onFailure(Call<T> c, Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    private static final class CallFuture<T> extends CompletableFuture<T> {
+        private final Call<?> call;
+
+        private CallFuture(Call<?> call) {
+            this.call = call;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            call.cancel();
+            return super.cancel(mayInterruptIfRunning);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.collect.Maps;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link TypeAdapterFactory} which canonicalizes immutable values repeated across list items.
+ * <p>Every server carries its own copy of datacenter, location, server type and image, although most servers
+ * share few distinct values. Strings of decoded {@link DatacenterDetail}, {@link LocationDetail},
+ * {@link ServerType} and {@link ImageDetail} are replaced by equal instance decoded earlier, if there is one.
+ * Models themselves are mutable, so each item still gets its own copy of them.</p>
+ * <p>Labels of servers, primary IPs and images are decoded as unmodifiable maps, equal maps are shared
+ * as single instance. Canonical instances are held weakly, so they are collected once nothing refers to them.</p>
+ */
+class CanonicalizingTypeAdapterFactory implements TypeAdapterFactory {
+    static final CanonicalizingTypeAdapterFactory INSTANCE = new CanonicalizingTypeAdapterFactory();
+
+    private final Interner<String> strings = Interners.newWeakInterner();
+    private final Interner<Map<String, String>> labels = Interners.newWeakInterner();
+    /**
+     * Depth of reference objects being decoded by current thread, strings are canonicalized inside of them.
+     */
+    private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        final Class<? super T> raw = type.getRawType();
+        final TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+        if (raw == String.class) {
+            return (TypeAdapter<T>) new CanonicalizingAdapter<>((TypeAdapter<String>) delegate,
+                    value -> depth.get()[0] > 0 ? strings.intern(value) : value);
+        }
+        if (raw == DatacenterDetail.class || raw == LocationDetail.class || raw == ServerType.class) {
+            return new ReferenceAdapter<>(delegate, UnaryOperator.identity());
+        }
+        if (raw == ImageDetail.class) {
+            return (TypeAdapter<T>) new ReferenceAdapter<>((TypeAdapter<ImageDetail>) delegate, image -> {
+                image.setLabels(labels(image.getLabels()));
+                return image;
+            });
+        }
+        if (raw == ServerDetail.class) {
+            return (TypeAdapter<T>) new CanonicalizingAdapter<>((TypeAdapter<ServerDetail>) delegate, server -> {
+                server.setLabels(labels(server.getLabels()));
+                return server;
+            });
+        }
+        if (raw == PrimaryIpDetail.class) {
+            return (TypeAdapter<T>) new CanonicalizingAdapter<>((TypeAdapter<PrimaryIpDetail>) delegate, ip -> {
+                ip.setLabels(labels(ip.getLabels()));
+                return ip;
+            });
+        }
+        return null;
+    }
+
+    /**
+     * Get canonical unmodifiable copy of labels, whose keys and values are canonical as well.
+     *
+     * @param labels decoded labels
+     * @return canonical labels, or labels themselves when there are none
+     */
+    Map<String, String> labels(Map<String, String> labels) {
+        if (labels == null || labels.isEmpty()) {
+            return labels;
+        }
+        final Map<String, String> canonical = Maps.newHashMapWithExpectedSize(labels.size());
+        for (Map.Entry<String, String> entry : labels.entrySet()) {
+            canonical.put(strings.intern(entry.getKey()),
+                    entry.getValue() != null ? strings.intern(entry.getValue()) : null);
+        }
+        return this.labels.intern(Collections.unmodifiableMap(canonical));
+    }
+
+    /**
+     * Adapter which passes every value decoded by delegate through canonicalizer.
+     *
+     * @param <T> model type
+     */
+    static class CanonicalizingAdapter<T> extends TypeAdapter<T> {
+        private final TypeAdapter<T> delegate;
+        private final UnaryOperator<T> canonicalizer;
+
+        CanonicalizingAdapter(TypeAdapter<T> delegate, UnaryOperator<T> canonicalizer) {
+            this.delegate = delegate;
+            this.canonicalizer = canonicalizer;
+        }
+
+        @Override
+        public void write(JsonWriter out, T value) throws IOException {
+            delegate.write(out, value);
+        }
+
+        @Override
+        public T read(JsonReader in) throws IOException {
+            final T value = delegate.read(in);
+            return value != null ? canonicalizer.apply(value) : null;
+        }
+    }
+
+    /**
+     * Adapter of reference object, whose strings are canonicalized while it's decoded.
+     *
+     * @param <T> model type
+     */
+    final class ReferenceAdapter<T> extends CanonicalizingAdapter<T> {
+        ReferenceAdapter(TypeAdapter<T> delegate, UnaryOperator<T> canonicalizer) {
+            super(delegate, canonicalizer);
+        }
+
+        @Override
+        public T read(JsonReader in) throws IOException {
+            final int[] current = depth.get();
+            current[0]++;
+            try {
+                return super.read(in);
+            } finally {
+                current[0]--;
+            }
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Circuit breakers of API endpoints, such as {@code GET /v1/servers/{id}}.
+ * <p>Circuit of endpoint opens when failure rate of its recent requests reaches threshold. Failed requests
+ * are those which fail with {@link java.io.IOException} or HTTP 5xx. While circuit is open, requests
+ * to endpoint are rejected immediately with {@link CircuitBreakerOpenException}. Once open duration
+ * elapses, single probe request is let through: circuit closes when it succeeds and opens again
+ * when it fails.</p>
+ * <p>Single instance can be shared by several clients.</p>
+ */
+@Slf4j
+public class CircuitBreaker {
+    /**
+     * State of circuit.
+     */
+    public enum State {
+        /**
+         * Requests are sent.
+         */
+        CLOSED,
+        /**
+         * Requests are rejected.
+         */
+        OPEN,
+        /**
+         * Single probe request is sent, others are rejected.
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * Permit returned by {@link Circuit#tryAcquire()} when request is rejected.
+     */
+    static final long REJECTED = -1;
+
+    private final double failureRateThreshold;
+    private final int windowSize;
+    private final int minRequests;
+    private final long openNanos;
+    private final Ticker ticker;
+    private final ConcurrentHashMap<String, Circuit> circuits = new ConcurrentHashMap<>();
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * Create circuit breaker which opens for 30 seconds when half of last 20 requests failed,
+     * provided that at least 10 requests were made.
+     */
+    public CircuitBreaker() {
+        this(0.5, 20, 10, Duration.ofSeconds(30));
+    }
+
+    /**
+     * Create new circuit breaker.
+     *
+     * @param failureRateThreshold failure rate (0.0 - 1.0) at which circuit opens
+     * @param windowSize number of recent requests of endpoint failure rate is computed from
+     * @param minRequests minimal number of requests in window before circuit can open
+     * @param openDuration time for which circuit stays open before probe request is let through
+     */
+    public CircuitBreaker(double failureRateThreshold, int windowSize, int minRequests, Duration openDuration) {
+        this(failureRateThreshold, windowSize, minRequests, openDuration, Ticker.systemTicker());
+    }
+
+    CircuitBreaker(double failureRateThreshold, int windowSize, int minRequests, Duration openDuration,
+                   Ticker ticker) {
+        Preconditions.checkArgument(failureRateThreshold > 0 && failureRateThreshold <= 1,
+                "Failure rate threshold must be in (0, 1]");
+        Preconditions.checkArgument(windowSize >= 1, "Window size must be positive");
+        Preconditions.checkArgument(minRequests >= 1 && minRequests <= windowSize,
+                "Minimal number of requests must be between 1 and window size");
+        Preconditions.checkArgument(!openDuration.isNegative(), "Open duration must not be negative");
+        this.failureRateThreshold = failureRateThreshold;
+        this.windowSize = windowSize;
+        this.minRequests = minRequests;
+        this.openNanos = openDuration.toNanos();
+        this.ticker = ticker;
+    }
+
+    Circuit circuit(String endpoint) {
+        final Circuit circuit = circuits.get(endpoint);
+        return circuit != null ? circuit : circuits.computeIfAbsent(endpoint, Circuit::new);
+    }
+
+    /**
+     * Get state of circuit of endpoint.
+     *
+     * @param endpoint endpoint, such as {@code GET /v1/servers/{id}}
+     * @return state of circuit, {@link State#CLOSED} if endpoint wasn't called yet
+     */
+    public State getState(String endpoint) {
+        final Circuit circuit = circuits.get(endpoint);
+        return circuit != null ? circuit.getState() : State.CLOSED;
+    }
+
+    /**
+     * Get number of requests rejected because their circuit was open.
+     *
+     * @return number of rejected requests
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * Circuit of single endpoint. Outcomes of recent requests are kept in ring buffer.
+     * <p>Every state change starts new generation. Request is given generation it was admitted in
+     * as permit and its outcome is counted only while that generation lasts, so that request sent
+     * before circuit opened can neither close nor reopen circuit nor release probe slot.</p>
+     */
+    class Circuit {
+        private final String endpoint;
+        private final boolean[] failures = new boolean[windowSize];
+        private int count;
+        private int next;
+        private int failed;
+        private State state = State.CLOSED;
+        private long openedAt;
+        private boolean probing;
+        private long generation;
+
+        Circuit(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        synchronized State getState() {
+            return state;
+        }
+
+        /**
+         * Check whether request can be sent.
+         *
+         * @return permit to be passed to one of {@code on*} methods with outcome of request,
+         * or {@link #REJECTED} if request can't be sent
+         */
+        synchronized long tryAcquire() {
+            if (state == State.OPEN && ticker.read() - openedAt >= openNanos) {
+                state = State.HALF_OPEN;
+                probing = false;
+                generation++;
+            }
+            if (state == State.CLOSED || state == State.HALF_OPEN && !probing) {
+                probing = state == State.HALF_OPEN;
+                return generation;
+            }
+            rejected.incrementAndGet();
+            return REJECTED;
+        }
+
+        synchronized void onSuccess(long permit) {
+            if (permit != generation) {
+                return;
+            }
+            if (state == State.HALF_OPEN) {
+                log.info("Circuit of {} closed", endpoint);
+                state = State.CLOSED;
+                probing = false;
+                generation++;
+                count = 0;
+                next = 0;
+                failed = 0;
+                return;
+            }
+            record(false);
+        }
+
+        synchronized void onFailure(long permit) {
+            if (permit != generation) {
+                return;
+            }
+            if (state == State.HALF_OPEN) {
+                open();
+                return;
+            }
+            record(true);
+            if (state == State.CLOSED && count >= minRequests && failed >= failureRateThreshold * count) {
+                open();
+            }
+        }
+
+        /**
+         * Report request whose outcome says nothing about health of endpoint, such as canceled request.
+         */
+        synchronized void onIgnored(long permit) {
+            if (permit != generation) {
+                return;
+            }
+            probing = false;
+        }
+
+        private void record(boolean failure) {
+            if (count == windowSize) {
+                failed -= failures[next] ? 1 : 0;
+            } else {
+                count++;
+            }
+            failures[next] = failure;
+            failed += failure ? 1 : 0;
+            next = (next + 1) % windowSize;
+        }
+
+        private void open() {
+            log.warn("Circuit of {} opened, requests are rejected for {} ms", endpoint, openNanos / 1_000_000);
+            state = State.OPEN;
+            openedAt = ticker.read();
+            probing = false;
+            generation++;
+        }
+    }
+}
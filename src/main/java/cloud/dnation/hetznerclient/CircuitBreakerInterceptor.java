@@ -0,0 +1,69 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import lombok.NonNull;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+import java.io.IOException;
+
+/**
+ * {@link Interceptor} which rejects requests to endpoints whose {@link CircuitBreaker} circuit is open
+ * and reports outcome of other requests to it.
+ */
+class CircuitBreakerInterceptor implements Interceptor {
+    private final CircuitBreaker breaker;
+
+    CircuitBreakerInterceptor(CircuitBreaker breaker) {
+        this.breaker = breaker;
+    }
+
+    @Override
+    @NonNull
+    public Response intercept(Chain chain) throws IOException {
+        final String endpoint = Operations.of(chain.request());
+        final CircuitBreaker.Circuit circuit = breaker.circuit(endpoint);
+        final long permit = circuit.tryAcquire();
+        if (permit == CircuitBreaker.REJECTED) {
+            throw new CircuitBreakerOpenException("Circuit breaker of " + endpoint + " is open");
+        }
+        final Response response;
+        try {
+            response = chain.proceed(chain.request());
+        } catch (RequestRejectedException e) {
+            circuit.onIgnored(permit);
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            if (chain.call().isCanceled()) {
+                circuit.onIgnored(permit);
+            } else {
+                circuit.onFailure(permit);
+            }
+            throw e;
+        } catch (Error e) {
+            // probe slot must not stay taken forever
+            circuit.onIgnored(permit);
+            throw e;
+        }
+        if (response.code() >= 500) {
+            circuit.onFailure(permit);
+        } else {
+            circuit.onSuccess(permit);
+        }
+        return response;
+    }
+}
@@ -15,56 +15,282 @@
  */
 package cloud.dnation.hetznerclient;
 
-import com.google.common.net.HttpHeaders;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import lombok.Value;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
-import okhttp3.logging.HttpLoggingInterceptor;
+import okhttp3.Protocol;
 import retrofit2.Retrofit;
 import retrofit2.converter.gson.GsonConverterFactory;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 @Slf4j
 @UtilityClass
 public class ClientFactory {
-    private static final ConnectionPool CP = new ConnectionPool(2,
-            30,
-            TimeUnit.SECONDS);
-
-    private static final Gson GSON = new GsonBuilder().create();
-
-    private static HetznerApi create(String apiToken) {
-        final HttpLoggingInterceptor loggingInterceptor = new HttpLoggingInterceptor(log::trace);
-        loggingInterceptor.redactHeader(HttpHeaders.AUTHORIZATION);
-        loggingInterceptor.setLevel(HttpLoggingInterceptor.Level.BODY);
-        final OkHttpClient client = new OkHttpClient.Builder()
-                .connectionPool(CP)
-                .addInterceptor(new AuthenticationInterceptor(apiToken))
-                .addInterceptor(UserAgentInterceptor.INSTANCE)
-                .addInterceptor(loggingInterceptor)
-                .build();
-
-        final Retrofit.Builder builder = new Retrofit.Builder()
-                .baseUrl(System.getProperty("cloud.dnation.hetznerclient.apiendpoint",
-                        "https://api.hetzner.cloud/v1/"))
-                .client(client)
-                .addConverterFactory(GsonConverterFactory.create(GSON));
-        return builder.build().create(HetznerApi.class);
+    private static final String DEFAULT_ENDPOINT = "https://api.hetzner.cloud/v1/";
+
+    private static final Gson GSON = new GsonBuilder()
+            .registerTypeAdapterFactory(ModelTypeAdapterFactory.INSTANCE)
+            .create();
+
+    /**
+     * Gson which also canonicalizes reference objects, see {@link ClientOptions#isCanonicalizing()}.
+     */
+    private static final Gson CANONICALIZING_GSON = GSON.newBuilder()
+            .registerTypeAdapterFactory(CanonicalizingTypeAdapterFactory.INSTANCE)
+            .create();
+
+    /**
+     * Base clients, keyed by connection pool and dispatcher settings.
+     * Clients derived from same base share its connection pool and dispatcher.
+     */
+    private static final ConcurrentHashMap<List<Object>, OkHttpClient> BASE_CLIENTS = new ConcurrentHashMap<>();
+
+    /**
+     * HTTP response caches, keyed by directory. OkHttp requires single instance per directory.
+     */
+    private static final ConcurrentHashMap<File, okhttp3.Cache> HTTP_CACHES = new ConcurrentHashMap<>();
+
+    /**
+     * API proxies, keyed by token, endpoint and options.
+     */
+    private static final Cache<ClientKey, HetznerApi> CLIENTS = CacheBuilder.newBuilder()
+            .maximumSize(1024)
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .build();
+
+    private static OkHttpClient baseClient(ClientOptions options) {
+        final List<Object> key = Arrays.asList(options.getMaxIdleConnections(), options.getKeepAlive(),
+                options.getMaxRequests(), options.getMaxRequestsPerHost(), options.isVirtualThreads());
+        return BASE_CLIENTS.computeIfAbsent(key, k -> {
+            final Dispatcher dispatcher;
+            if (options.isVirtualThreads() && VirtualThreads.isSupported()) {
+                dispatcher = new Dispatcher(VirtualThreads.executor());
+            } else {
+                if (options.isVirtualThreads()) {
+                    log.warn("Virtual threads require JDK 21 or newer, falling back to platform threads");
+                }
+                dispatcher = new Dispatcher();
+            }
+            dispatcher.setMaxRequests(options.getMaxRequests());
+            dispatcher.setMaxRequestsPerHost(options.getMaxRequestsPerHost());
+            return new OkHttpClient.Builder()
+                    .connectionPool(new ConnectionPool(options.getMaxIdleConnections(),
+                            options.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS))
+                    .dispatcher(dispatcher)
+                    .build();
+        });
+    }
+
+    private static String tokenHash(String apiToken) {
+        return Hashing.sha256().hashString(apiToken, StandardCharsets.UTF_8).toString();
+    }
+
+    /**
+     * Build interceptors of client, in order in which they are applied.
+     *
+     * @param apiToken API token
+     * @param options client options
+     * @param conditionalStore store of conditional responses or null if conditional requests are disabled
+     * @return list of interceptors
+     */
+    static List<Interceptor> interceptors(String apiToken, ClientOptions options, ConditionalStore conditionalStore) {
+        return interceptors(new AuthenticationInterceptor(apiToken),
+                Collections.singletonList(new RateLimitInterceptor(RateLimitGovernor.forToken(apiToken))),
+                options, conditionalStore);
+    }
+
+    /**
+     * Build interceptors of client, in order in which they are applied.
+     *
+     * @param authentication interceptor which authenticates requests
+     * @param admission interceptors which admit every attempt to network, such as rate limiting
+     * @param options client options
+     * @param conditionalStore store of conditional responses or null if conditional requests are disabled
+     * @return list of interceptors
+     */
+    static List<Interceptor> interceptors(Interceptor authentication, List<Interceptor> admission,
+                                          ClientOptions options, ConditionalStore conditionalStore) {
+        final List<Interceptor> interceptors = new ArrayList<>();
+        interceptors.add(UserAgentInterceptor.INSTANCE);
+        if (conditionalStore != null) {
+            interceptors.add(new ConditionalInterceptor(conditionalStore));
+        }
+        final ClientMetrics metrics = options.getMetrics();
+        RetryPolicy retryPolicy = options.getRetryPolicy();
+        if (metrics != ClientMetrics.NOOP) {
+            retryPolicy = retryPolicy.toBuilder()
+                    .listener(MetricsInterceptor.retryListener(retryPolicy.getListener(), metrics))
+                    .build();
+        }
+        interceptors.add(new RetryInterceptor(retryPolicy));
+        // after retry, so that every attempt is authenticated with current token
+        interceptors.add(authentication);
+        if (options.getCircuitBreaker() != null) {
+            interceptors.add(new CircuitBreakerInterceptor(options.getCircuitBreaker()));
+        }
+        interceptors.addAll(admission);
+        if (options.getConcurrencyLimiter() != null) {
+            // after admission, so that time spent waiting for rate limit isn't taken for round-trip time
+            interceptors.add(new ConcurrencyLimitInterceptor(options.getConcurrencyLimiter()));
+        }
+        if (metrics != ClientMetrics.NOOP) {
+            // after rate limiting, so that time spent waiting for rate limit isn't reported as latency
+            interceptors.add(new MetricsInterceptor(metrics));
+        }
+        interceptors.add(new LoggingInterceptor(log, options.getLogLevel(),
+                options.getMaxLoggedBodyBytes(), options.getBodyLogSampleRate()));
+        return interceptors;
+    }
+
+    /**
+     * Get builder of client derived from shared base client, with timeouts and protocols set from options.
+     *
+     * @param options client options
+     * @return client builder
+     */
+    static OkHttpClient.Builder clientBuilder(ClientOptions options) {
+        return baseClient(options).newBuilder()
+                .connectTimeout(options.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .readTimeout(options.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .writeTimeout(options.getWriteTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .protocols(options.isHttp2()
+                        ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                        : Collections.singletonList(Protocol.HTTP_1_1));
+    }
+
+    /**
+     * Get base URL of API.
+     *
+     * @param options client options
+     * @return endpoint from options, system property or default endpoint
+     */
+    static String endpoint(ClientOptions options) {
+        return options.getEndpoint() != null ? options.getEndpoint()
+                : System.getProperty("cloud.dnation.hetznerclient.apiendpoint", DEFAULT_ENDPOINT);
     }
 
     /**
-     * Create new proxy of {@link HetznerApi} using token provider.
+     * Get builder of {@link Retrofit} which decodes responses using shared {@link Gson} instance.
+     *
+     * @param endpoint base URL of API
+     * @param options client options
+     * @return Retrofit builder without call factory
+     */
+    static Retrofit.Builder retrofitBuilder(String endpoint, ClientOptions options) {
+        return new Retrofit.Builder()
+                .baseUrl(endpoint)
+                .addConverterFactory(GsonConverterFactory.create(
+                        options.isCanonicalizing() ? CANONICALIZING_GSON : GSON));
+    }
+
+    private static HetznerApi create(String apiToken, String endpoint, ClientOptions options) {
+        final OkHttpClient.Builder clientBuilder = clientBuilder(options);
+        if (options.getCacheDirectory() != null) {
+            // responses are specific to project, so each token has its own cache
+            final File directory = new File(options.getCacheDirectory(), tokenHash(apiToken));
+            clientBuilder.cache(HTTP_CACHES.computeIfAbsent(directory,
+                    d -> new okhttp3.Cache(d, options.getCacheSize())));
+        }
+        final ConditionalStore conditionalStore = options.isConditionalRequests()
+                ? new ConditionalStore(options.getConditionalCacheSize()) : null;
+        clientBuilder.interceptors().addAll(interceptors(apiToken, options, conditionalStore));
+        final OkHttpClient client = clientBuilder.build();
+
+        final HetznerApi api = retrofitBuilder(endpoint, options).client(client).build().create(HetznerApi.class);
+        if (conditionalStore != null) {
+            return new ConditionalApiDecorator(api, conditionalStore, ConditionalApiDecorator.DEFAULT_METHODS).getApi();
+        }
+        return api;
+    }
+
+    /**
+     * Get proxy of {@link HetznerApi} using token provider and default options.
      *
      * @param tokenProvider supplier of Hetzner API token.
      * @return Proxy of {@link HetznerApi}
      * @throws IllegalStateException when credentialsId is not valid
      */
     public static HetznerApi create(Supplier<String> tokenProvider) {
-        return create(tokenProvider.get());
+        return create(tokenProvider, ClientOptions.DEFAULT);
+    }
+
+    /**
+     * Get proxy of {@link HetznerApi} using token provider and custom retry policy.
+     *
+     * @param tokenProvider supplier of Hetzner API token.
+     * @param retryPolicy policy used to retry failed requests, use {@link RetryPolicy#NONE} to disable retries.
+     * @return Proxy of {@link HetznerApi}
+     */
+    public static HetznerApi create(Supplier<String> tokenProvider, RetryPolicy retryPolicy) {
+        return create(tokenProvider, ClientOptions.builder().retryPolicy(retryPolicy).build());
+    }
+
+    /**
+     * Get proxy of {@link HetznerApi} using token provider and client options.
+     * <p>Proxies are cached and reused for same token, endpoint and options.
+     * All proxies with same connection pool and dispatcher settings share
+     * single connection pool and dispatcher.</p>
+     *
+     * @param tokenProvider supplier of Hetzner API token.
+     * @param options client options
+     * @return Proxy of {@link HetznerApi}
+     */
+    public static HetznerApi create(Supplier<String> tokenProvider, ClientOptions options) {
+        final String apiToken = tokenProvider.get();
+        final String endpoint = endpoint(options);
+        final ClientKey key = new ClientKey(tokenHash(apiToken), endpoint, options);
+        try {
+            return CLIENTS.get(key, () -> create(apiToken, endpoint, options));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw new IllegalStateException("Unable to create client", e.getCause());
+        }
+    }
+
+    /**
+     * Create new asynchronous facade of {@link HetznerApi} using token provider.
+     *
+     * @param tokenProvider supplier of Hetzner API token.
+     * @return {@link AsyncHetznerApi} backed by proxy of {@link HetznerApi}
+     */
+    public static AsyncHetznerApi createAsync(Supplier<String> tokenProvider) {
+        return createAsync(tokenProvider, ClientOptions.DEFAULT);
+    }
+
+    /**
+     * Create new asynchronous facade of {@link HetznerApi} using token provider and client options.
+     *
+     * @param tokenProvider supplier of Hetzner API token.
+     * @param options client options
+     * @return {@link AsyncHetznerApi} backed by proxy of {@link HetznerApi}
+     */
+    public static AsyncHetznerApi createAsync(Supplier<String> tokenProvider, ClientOptions options) {
+        return new AsyncHetznerApi(create(tokenProvider, options));
+    }
+
+    @Value
+    private static class ClientKey {
+        String tokenHash;
+        String endpoint;
+        ClientOptions options;
     }
 }
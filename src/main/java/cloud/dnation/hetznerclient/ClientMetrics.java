@@ -0,0 +1,70 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+/**
+ * Sink of client metrics. All methods are called on request path, so implementations should be cheap
+ * and shouldn't allocate.
+ * <p>Operation identifies API endpoint as HTTP method and templated path declared in {@link HetznerApi},
+ * such as {@code GET /v1/servers/{id}}. Same {@link String} instance is passed for every call of same operation,
+ * so it can be used as key of meters.</p>
+ *
+ * @see MicrometerClientMetrics
+ */
+public interface ClientMetrics {
+    /**
+     * Metrics which are discarded.
+     */
+    ClientMetrics NOOP = new ClientMetrics() {
+    };
+
+    /**
+     * Called after every HTTP exchange, including each retry attempt, once its response body is closed.
+     *
+     * @param operation operation
+     * @param status HTTP status code of response or -1 if exchange failed with I/O error
+     * @param latencyNanos time until response headers were received in nanoseconds
+     * @param bytesOut size of request body or -1 if unknown
+     * @param bytesIn number of bytes read from (decompressed) response body or -1 if body wasn't read to end
+     */
+    default void recordRequest(String operation, int status, long latencyNanos, long bytesOut, long bytesIn) {
+    }
+
+    /**
+     * Called before failed request is retried.
+     *
+     * @param operation operation
+     */
+    default void recordRetry(String operation) {
+    }
+
+    /**
+     * Called when response carries {@code RateLimit-Remaining} header.
+     *
+     * @param remaining number of requests left in rate limit bucket
+     */
+    default void recordRateLimitRemaining(long remaining) {
+    }
+
+    /**
+     * Called once {@link PagedResourceHelper#fetchItems} consumed all pages.
+     *
+     * @param operation operation used to fetch pages
+     * @param pages number of pages fetched
+     */
+    default void recordPages(String operation, int pages) {
+    }
+}
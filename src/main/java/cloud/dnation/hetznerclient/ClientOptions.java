@@ -0,0 +1,180 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import lombok.Builder;
+import lombok.Value;
+import okhttp3.logging.HttpLoggingInterceptor;
+
+import java.io.File;
+import java.time.Duration;
+
+/**
+ * Options used by {@link ClientFactory} to build clients.
+ * <p>Clients created with same connection pool and dispatcher settings share single
+ * connection pool and dispatcher, regardless of API token they use.</p>
+ */
+@Value
+@Builder(toBuilder = true)
+public class ClientOptions {
+    /**
+     * Default options.
+     */
+    public static final ClientOptions DEFAULT = ClientOptions.builder().build();
+
+    /**
+     * Base URL of API. When not set, value of system property {@code cloud.dnation.hetznerclient.apiendpoint}
+     * is used, falling back to {@code https://api.hetzner.cloud/v1/}.
+     */
+    String endpoint;
+
+    /**
+     * Maximum number of idle connections kept in connection pool.
+     */
+    @Builder.Default
+    int maxIdleConnections = 5;
+
+    /**
+     * Time to keep idle connection in connection pool.
+     */
+    @Builder.Default
+    Duration keepAlive = Duration.ofMinutes(5);
+
+    /**
+     * Maximum number of requests executed concurrently by dispatcher.
+     */
+    @Builder.Default
+    int maxRequests = 64;
+
+    /**
+     * Maximum number of requests executed concurrently by dispatcher for single host.
+     */
+    @Builder.Default
+    int maxRequestsPerHost = 16;
+
+    /**
+     * Whether asynchronous calls are executed on virtual threads. Requires JDK 21 or newer,
+     * platform threads are used on older runtimes. Consider raising {@link #maxRequests} and
+     * {@link #maxRequestsPerHost} as well, since they still bound number of calls in flight.
+     * Applies only to dispatcher of {@link retrofit2.Call#enqueue} calls; blocking helpers have their own option,
+     * see {@link PagingOptions#isVirtualThreads()}, {@link ProvisioningOptions#isVirtualThreads()}
+     * and {@link TeardownOptions#isVirtualThreads()}.
+     */
+    boolean virtualThreads;
+
+    /**
+     * Adaptive limit of requests in flight. Requests above limit fail fast with
+     * {@link ConcurrencyLimitExceededException}. When not set, requests are limited only by dispatcher.
+     * Limiter can be shared by several clients.
+     */
+    ConcurrencyLimiter concurrencyLimiter;
+
+    /**
+     * Circuit breaker of API endpoints. Requests to endpoint whose circuit is open fail fast
+     * with {@link CircuitBreakerOpenException}. When not set, requests are always sent.
+     */
+    CircuitBreaker circuitBreaker;
+
+    /**
+     * Connect timeout, zero means no timeout.
+     */
+    @Builder.Default
+    Duration connectTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Read timeout, zero means no timeout.
+     */
+    @Builder.Default
+    Duration readTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Write timeout, zero means no timeout.
+     */
+    @Builder.Default
+    Duration writeTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Whether HTTP/2 can be negotiated. When disabled, only HTTP/1.1 is used.
+     */
+    @Builder.Default
+    boolean http2 = true;
+
+    /**
+     * Policy used to retry failed requests. Requests aren't retried by default,
+     * use {@link RetryPolicy#DEFAULT} to retry idempotent requests.
+     */
+    @Builder.Default
+    RetryPolicy retryPolicy = RetryPolicy.NONE;
+
+    /**
+     * Upper bound of HTTP logging detail. Actual level is derived from state of logger:
+     * bodies are logged only when TRACE is enabled, single line per request when DEBUG is enabled.
+     * Set to {@link HttpLoggingInterceptor.Level#NONE} to disable HTTP logging regardless of logger.
+     */
+    @Builder.Default
+    HttpLoggingInterceptor.Level logLevel = HttpLoggingInterceptor.Level.BODY;
+
+    /**
+     * Maximum number of bytes of request/response body written to log.
+     */
+    @Builder.Default
+    long maxLoggedBodyBytes = 4096;
+
+    /**
+     * Fraction of requests (0.0 - 1.0) whose bodies are written to log.
+     */
+    @Builder.Default
+    double bodyLogSampleRate = 1.0;
+
+    /**
+     * Directory of HTTP response cache. When not set, responses are not cached on disk.
+     * Each API token uses its own subdirectory.
+     */
+    File cacheDirectory;
+
+    /**
+     * Maximum size of HTTP response cache in bytes.
+     */
+    @Builder.Default
+    long cacheSize = 10L * 1024 * 1024;
+
+    /**
+     * Whether responses of {@link HetznerApi#getServer(long)}, {@link HetznerApi#getFirewallById(long)},
+     * {@link HetznerApi#getNetworkById(long)} and {@link HetznerApi#getPlacementGroupById(long)} are revalidated
+     * using {@code If-None-Match}/{@code If-Modified-Since}, provided that API sent validators.
+     * When response hasn't changed, previously decoded object is returned without parsing.
+     */
+    boolean conditionalRequests;
+
+    /**
+     * Maximum number of decoded responses kept in memory for conditional requests.
+     */
+    @Builder.Default
+    long conditionalCacheSize = 1024;
+
+    /**
+     * Whether immutable values are canonicalized while decoding: equal strings of datacenters, locations,
+     * server types and images are decoded as single shared instance, labels are decoded as shared unmodifiable maps.
+     * Reduces retained heap of large lists, such as inventory caches.
+     */
+    boolean canonicalizing;
+
+    /**
+     * Sink of request metrics, such as latency, status codes and retries per operation.
+     */
+    @Builder.Default
+    ClientMetrics metrics = ClientMetrics.NOOP;
+}
@@ -0,0 +1,63 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import lombok.NonNull;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+import java.io.IOException;
+
+/**
+ * {@link Interceptor} which admits requests according to {@link ConcurrencyLimiter}
+ * and feeds it with their round-trip times and failures.
+ */
+class ConcurrencyLimitInterceptor implements Interceptor {
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final ConcurrencyLimiter limiter;
+
+    ConcurrencyLimitInterceptor(ConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    @NonNull
+    public Response intercept(Chain chain) throws IOException {
+        if (!limiter.tryAcquire()) {
+            throw new ConcurrencyLimitExceededException("Limit of " + limiter.getLimit()
+                    + " concurrent requests reached");
+        }
+        final long start = System.nanoTime();
+        final Response response;
+        try {
+            response = chain.proceed(chain.request());
+        } catch (IOException | RuntimeException e) {
+            if (chain.call().isCanceled()) {
+                limiter.onIgnored();
+            } else {
+                limiter.onDropped();
+            }
+            throw e;
+        }
+        if (response.code() == TOO_MANY_REQUESTS || response.code() >= 500) {
+            limiter.onDropped();
+        } else {
+            limiter.onSuccess(Operations.of(chain.request()), System.nanoTime() - start);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.base.Preconditions;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Adaptive limit of requests in flight, adjusted using AIMD (additive increase, multiplicative decrease).
+ * <p>Limit grows by one per limit's worth of successful requests while they are using at least half of it.
+ * It shrinks by {@link #BACKOFF_RATIO} when request fails, is throttled (HTTP 429), fails on server (HTTP 5xx)
+ * or takes more than {@link #RTT_TOLERANCE} times the baseline round-trip time of its operation while limit
+ * is in use. Baseline is lowest round-trip time observed, slowly drifting up so that it follows permanent
+ * changes of latency.
+ * Requests above limit are rejected immediately with {@link ConcurrencyLimitExceededException}.</p>
+ * <p>Single instance can be shared by several clients, limiting their combined concurrency.</p>
+ */
+@Slf4j
+public class ConcurrencyLimiter {
+    /**
+     * Factor applied to limit when overload is detected.
+     */
+    static final double BACKOFF_RATIO = 0.9;
+
+    /**
+     * Multiple of baseline round-trip time above which request is considered slowed down by overload.
+     */
+    static final double RTT_TOLERANCE = 2.0;
+
+    /**
+     * Weight of new round-trip time when baseline drifts up towards it.
+     */
+    private static final double BASELINE_DRIFT = 0.001;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private double limit;
+    private final Map<String, Double> baselineRtts = new HashMap<>();
+    private int inFlight;
+    private long rejected;
+
+    /**
+     * Create limiter starting at 20 concurrent requests, adapting between 1 and 200.
+     */
+    public ConcurrencyLimiter() {
+        this(20, 1, 200);
+    }
+
+    /**
+     * Create new limiter.
+     *
+     * @param initialLimit initial number of concurrent requests
+     * @param minLimit lower bound of limit
+     * @param maxLimit upper bound of limit
+     */
+    public ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        Preconditions.checkArgument(minLimit >= 1, "Minimal limit must be at least 1");
+        Preconditions.checkArgument(minLimit <= initialLimit && initialLimit <= maxLimit,
+                "Initial limit must be between minimal and maximal limit");
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Take slot for request if limit isn't reached.
+     *
+     * @return true if slot was taken, it must be released by one of {@code on*} methods
+     */
+    synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            rejected++;
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Release slot of request which succeeded.
+     *
+     * @param operation operation of request, round-trip times are compared only within operation
+     * @param rttNanos round-trip time of request
+     */
+    synchronized void onSuccess(String operation, long rttNanos) {
+        final boolean saturated = inFlight * 2 >= limit;
+        inFlight--;
+        final Double previous = baselineRtts.get(operation);
+        final double baselineRtt = previous == null || rttNanos < previous ? rttNanos
+                : previous + (rttNanos - previous) * BASELINE_DRIFT;
+        baselineRtts.put(operation, baselineRtt);
+        if (!saturated) {
+            return;
+        }
+        if (rttNanos > baselineRtt * RTT_TOLERANCE) {
+            backOff();
+        } else {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    /**
+     * Release slot of request which failed because of overload.
+     */
+    synchronized void onDropped() {
+        inFlight--;
+        backOff();
+    }
+
+    /**
+     * Release slot of request whose outcome says nothing about load, such as canceled request.
+     */
+    synchronized void onIgnored() {
+        inFlight--;
+    }
+
+    private void backOff() {
+        final double previous = limit;
+        limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        if ((int) limit < (int) previous) {
+            log.debug("Concurrency limit decreased to {}", (int) limit);
+        }
+    }
+
+    /**
+     * Get current limit of concurrent requests.
+     *
+     * @return limit
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Get number of requests in flight.
+     *
+     * @return number of requests
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Get number of requests rejected because limit was reached.
+     *
+     * @return number of rejected requests
+     */
+    public synchronized long getRejectedCount() {
+        return rejected;
+    }
+}
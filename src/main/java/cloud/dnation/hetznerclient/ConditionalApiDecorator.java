@@ -0,0 +1,163 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.net.HttpHeaders;
+import lombok.NonNull;
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.HttpURLConnection;
+import java.util.Set;
+
+/**
+ * {@link HetznerApi} decorator which returns previously decoded body when API responds
+ * with {@code 304 Not Modified} to request carrying validators added by {@link ConditionalInterceptor}.
+ */
+class ConditionalApiDecorator extends ApiDecorator {
+    static final Set<String> DEFAULT_METHODS = ImmutableSet.of("getServer", "getFirewallById",
+            "getNetworkById", "getPlacementGroupById");
+
+    private final ConditionalStore store;
+    private final Set<String> methods;
+
+    ConditionalApiDecorator(HetznerApi api, ConditionalStore store, Set<String> methods) {
+        super(api);
+        this.store = store;
+        this.methods = methods;
+    }
+
+    @Override
+    <T> Call<T> decorate(Method method, Call<T> call) {
+        return methods.contains(method.getName()) ? new ConditionalCall<>(call) : call;
+    }
+
+    private final class ConditionalCall<T> implements Call<T> {
+        private final Call<T> delegate;
+
+        private ConditionalCall(Call<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        /**
+         * Turn 304 response into successful response with stored body and record validators of fresh response.
+         *
+         * @return resolved response or null if request has to be repeated without validators,
+         * because stored body was evicted meanwhile
+         */
+        @SuppressWarnings("unchecked")
+        private Response<T> resolve(Response<T> response) {
+            final HttpUrl url = delegate.request().url();
+            if (response.code() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                final ConditionalStore.Entry entry = store.get(url);
+                if (entry == null) {
+                    return null;
+                }
+                return Response.success((T) entry.getBody(), response.raw().newBuilder()
+                        .code(HttpURLConnection.HTTP_OK)
+                        .message("OK")
+                        .build());
+            }
+            if (response.isSuccessful()) {
+                final String etag = response.headers().get(HttpHeaders.ETAG);
+                final String lastModified = response.headers().get(HttpHeaders.LAST_MODIFIED);
+                if ((etag != null || lastModified != null) && response.body() != null
+                        && Projection.current() == null) {
+                    store.put(url, new ConditionalStore.Entry(etag, lastModified, response.body()));
+                } else {
+                    store.remove(url);
+                }
+            }
+            return response;
+        }
+
+        @Override
+        @NonNull
+        public Response<T> execute() throws IOException {
+            final Response<T> response = resolve(delegate.execute());
+            if (response != null) {
+                return response;
+            }
+            final Response<T> repeated = delegate.clone().execute();
+            final Response<T> resolved = resolve(repeated);
+            return resolved != null ? resolved : repeated;
+        }
+
+        @Override
+        public void enqueue(@NonNull Callback<T> callback) {
+            enqueue(delegate, callback, true);
+        }
+
+        private void enqueue(Call<T> call, Callback<T> callback, boolean mayRepeat) {
+            call.enqueue(new Callback<T>() {
+                @Override
+                public void onResponse(Call<T> c, Response<T> response) {
+                    final Response<T> resolved = resolve(response);
+                    if (resolved == null && mayRepeat) {
+                        enqueue(call.clone(), callback, false);
+                    } else {
+                        callback.onResponse(ConditionalCall.this, resolved != null ? resolved : response);
+                    }
+                }
+
+                @Override
+                public void onFailure(Call<T> c, Throwable t) {
+                    callback.onFailure(ConditionalCall.this, t);
+                }
+            });
+        }
+
+        @Override
+        public boolean isExecuted() {
+            return delegate.isExecuted();
+        }
+
+        @Override
+        public void cancel() {
+            delegate.cancel();
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return delegate.isCanceled();
+        }
+
+        @Override
+        @NonNull
+        public Call<T> clone() {
+            return new ConditionalCall<>(delegate.clone());
+        }
+
+        @Override
+        @NonNull
+        public Request request() {
+            return delegate.request();
+        }
+
+        @Override
+        @NonNull
+        public Timeout timeout() {
+            return delegate.timeout();
+        }
+    }
+}
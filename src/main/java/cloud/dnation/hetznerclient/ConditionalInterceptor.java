@@ -0,0 +1,58 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.net.HttpHeaders;
+import lombok.NonNull;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+
+/**
+ * {@link Interceptor} which adds validators of previously seen response to GET requests.
+ */
+class ConditionalInterceptor implements Interceptor {
+    private final ConditionalStore store;
+
+    ConditionalInterceptor(ConditionalStore store) {
+        this.store = store;
+    }
+
+    @Override
+    @NonNull
+    public Response intercept(Chain chain) throws IOException {
+        final Request request = chain.request();
+        if (!"GET".equals(request.method())
+                || request.header(HttpHeaders.IF_NONE_MATCH) != null
+                || request.header(HttpHeaders.IF_MODIFIED_SINCE) != null) {
+            return chain.proceed(request);
+        }
+        final ConditionalStore.Entry entry = store.get(request.url());
+        if (entry == null) {
+            return chain.proceed(request);
+        }
+        final Request.Builder builder = request.newBuilder();
+        if (entry.getEtag() != null) {
+            builder.header(HttpHeaders.IF_NONE_MATCH, entry.getEtag());
+        }
+        if (entry.getLastModified() != null) {
+            builder.header(HttpHeaders.IF_MODIFIED_SINCE, entry.getLastModified());
+        }
+        return chain.proceed(builder.build());
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Value;
+import okhttp3.HttpUrl;
+
+/**
+ * Validators and decoded bodies of responses, keyed by URL. Shared by {@link ConditionalInterceptor},
+ * which sends validators, and {@link ConditionalApiDecorator}, which records them.
+ */
+class ConditionalStore {
+    private final Cache<HttpUrl, Entry> entries;
+
+    ConditionalStore(long maximumSize) {
+        this.entries = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    Entry get(HttpUrl url) {
+        return entries.getIfPresent(url);
+    }
+
+    void put(HttpUrl url, Entry entry) {
+        entries.put(url, entry);
+    }
+
+    void remove(HttpUrl url) {
+        entries.invalidate(url);
+    }
+
+    @Value
+    static class Entry {
+        String etag;
+        String lastModified;
+        Object body;
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.base.Preconditions;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Admits bounded number of concurrent calls, sharing them among tenants in proportion to their weights.
+ * <p>Implements start-time fair queuing: each call is stamped with virtual start time, which is
+ * maximum of current virtual time and finish time of previous call of same tenant. Finish time
+ * advances by {@code 1 / weight}, so tenant with weight 2 gets twice as many slots as tenant
+ * with weight 1 while both have calls waiting. Calls are admitted in order of their start times.</p>
+ */
+@Slf4j
+class FairScheduler {
+    private final int maxConcurrency;
+    private final PriorityQueue<Ticket> tickets = new PriorityQueue<>(Comparator
+            .comparingDouble((Ticket t) -> t.start)
+            .thenComparingLong(t -> t.sequence));
+    private int running;
+    private double virtualTime;
+    private long sequence;
+
+    FairScheduler(int maxConcurrency) {
+        Preconditions.checkArgument(maxConcurrency > 0, "maxConcurrency must be positive");
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Scheduling state of tenant, guarded by scheduler except for weight.
+     */
+    static class Tenant {
+        private volatile int weight;
+        private double lastFinish;
+        private int waiting;
+
+        Tenant(int weight) {
+            setWeight(weight);
+        }
+
+        void setWeight(int weight) {
+            Preconditions.checkArgument(weight > 0, "weight must be positive");
+            this.weight = weight;
+        }
+
+        int getWeight() {
+            return weight;
+        }
+    }
+
+    private static class Ticket {
+        private final Tenant tenant;
+        private final double start;
+        private final long sequence;
+        private final Runnable onAdmitted;
+        private boolean admitted;
+
+        Ticket(Tenant tenant, double start, long sequence, Runnable onAdmitted) {
+            this.tenant = tenant;
+            this.start = start;
+            this.sequence = sequence;
+            this.onAdmitted = onAdmitted;
+        }
+    }
+
+    /**
+     * Wait until call of tenant is admitted. Caller must {@link #release()} once call completed.
+     *
+     * @param tenant tenant
+     * @throws InterruptedException when interrupted while waiting, call is not admitted then
+     */
+    void acquire(Tenant tenant) throws InterruptedException {
+        final Ticket ticket;
+        List<Ticket> admitted;
+        synchronized (this) {
+            ticket = enqueue(tenant, null);
+            admitted = admit();
+        }
+        runAdmitted(admitted, null);
+        synchronized (this) {
+            try {
+                while (!ticket.admitted) {
+                    wait();
+                }
+                return;
+            } catch (InterruptedException e) {
+                if (ticket.admitted) {
+                    // admitted concurrently with interrupt, hand slot over to someone else
+                    running--;
+                    admitted = admit();
+                } else {
+                    tickets.remove(ticket);
+                    tenant.waiting--;
+                    admitted = null;
+                }
+            }
+        }
+        runAdmitted(admitted, null);
+        throw new InterruptedException("Interrupted while waiting for admission");
+    }
+
+    /**
+     * Run action once call of tenant is admitted, without blocking. Action runs either in calling thread
+     * or in thread which released slot. Caller must {@link #release()} once call completed. If action throws,
+     * slot is released right away and exception is rethrown when action runs in calling thread.
+     *
+     * @param tenant tenant
+     * @param onAdmitted action which starts call
+     */
+    void acquire(Tenant tenant, Runnable onAdmitted) {
+        final Ticket ticket;
+        final List<Ticket> admitted;
+        synchronized (this) {
+            ticket = enqueue(tenant, onAdmitted);
+            admitted = admit();
+        }
+        runAdmitted(admitted, ticket);
+    }
+
+    /**
+     * Return slot of completed call, admitting next call if any.
+     */
+    void release() {
+        final List<Ticket> admitted;
+        synchronized (this) {
+            running--;
+            admitted = admit();
+        }
+        runAdmitted(admitted, null);
+    }
+
+    /**
+     * Get number of calls of tenant waiting to be admitted.
+     *
+     * @param tenant tenant
+     * @return number of waiting calls
+     */
+    synchronized int getWaiting(Tenant tenant) {
+        return tenant.waiting;
+    }
+
+    /**
+     * Get number of admitted calls which haven't completed yet.
+     *
+     * @return number of running calls
+     */
+    synchronized int getRunning() {
+        return running;
+    }
+
+    private Ticket enqueue(Tenant tenant, Runnable onAdmitted) {
+        final double start = Math.max(virtualTime, tenant.lastFinish);
+        tenant.lastFinish = start + 1.0 / tenant.weight;
+        tenant.waiting++;
+        final Ticket ticket = new Ticket(tenant, start, sequence++, onAdmitted);
+        tickets.add(ticket);
+        return ticket;
+    }
+
+    private List<Ticket> admit() {
+        List<Ticket> actions = null;
+        boolean wakeUp = false;
+        while (running < maxConcurrency && !tickets.isEmpty()) {
+            final Ticket ticket = tickets.poll();
+            ticket.admitted = true;
+            ticket.tenant.waiting--;
+            virtualTime = ticket.start;
+            running++;
+            if (ticket.onAdmitted != null) {
+                if (actions == null) {
+                    actions = new ArrayList<>();
+                }
+                actions.add(ticket);
+            } else {
+                wakeUp = true;
+            }
+        }
+        if (wakeUp) {
+            notifyAll();
+        }
+        return actions;
+    }
+
+    private void runAdmitted(List<Ticket> admitted, Ticket own) {
+        if (admitted == null) {
+            return;
+        }
+        RuntimeException failure = null;
+        for (Ticket ticket : admitted) {
+            try {
+                ticket.onAdmitted.run();
+            } catch (RuntimeException e) {
+                // call never started, so nobody else would return its slot
+                release();
+                if (ticket == own) {
+                    failure = e;
+                } else {
+                    log.warn("Failed to start admitted call", e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
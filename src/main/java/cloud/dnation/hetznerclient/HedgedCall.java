@@ -0,0 +1,265 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import lombok.NonNull;
+import okhttp3.Request;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link Call} which sends second, hedged request when first one takes longer than learned delay.
+ * <p>First successful response to arrive wins and the other request is cancelled. Server error (HTTP 5xx)
+ * doesn't win while other request is pending. Call fails only when every request sent has failed. Hedged request of {@link #execute()} is executed on separate thread,
+ * with {@link Projection} of calling thread.</p>
+ *
+ * @param <T> response body type
+ */
+class HedgedCall<T> implements Call<T> {
+    private static final int SERVER_ERROR = 500;
+
+    private final Call<T> delegate;
+    private final HedgingApiDecorator decorator;
+    private final HedgingApiDecorator.LatencyWindow window;
+    private final CompletableFuture<Response<T>> winner = new CompletableFuture<>();
+    /**
+     * Number of requests which haven't failed yet.
+     */
+    private final AtomicInteger pending = new AtomicInteger(1);
+    private final AtomicBoolean claimed = new AtomicBoolean();
+    private final AtomicBoolean primaryRecorded = new AtomicBoolean();
+    private final AtomicReference<Response<T>> errorResponse = new AtomicReference<>();
+    private final AtomicReference<Throwable> firstError = new AtomicReference<>();
+    private volatile Call<T> hedge;
+    private volatile boolean executed;
+    private volatile boolean canceled;
+
+    HedgedCall(Call<T> delegate, HedgingApiDecorator decorator, HedgingApiDecorator.LatencyWindow window) {
+        this.delegate = delegate;
+        this.decorator = decorator;
+        this.window = window;
+    }
+
+    private void begin() {
+        if (executed) {
+            throw new IllegalStateException("Already executed.");
+        }
+        executed = true;
+        decorator.recordCall();
+    }
+
+    /**
+     * Schedule hedged request, if enough latencies were observed to derive delay.
+     */
+    private void scheduleHedge(long start, Projection projection, boolean async) {
+        final long delay = decorator.hedgeDelayNanos(window);
+        if (delay < 0) {
+            return;
+        }
+        final ScheduledFuture<?> timer = HedgingApiDecorator.SCHEDULER.schedule(
+                () -> sendHedge(start, projection, async), delay, TimeUnit.NANOSECONDS);
+        winner.whenComplete((response, error) -> timer.cancel(false));
+    }
+
+    private void sendHedge(long start, Projection projection, boolean async) {
+        if (claimed.get() || winner.isDone() || canceled || !decorator.tryHedge()) {
+            return;
+        }
+        final Call<T> call = delegate.clone();
+        pending.incrementAndGet();
+        hedge = call;
+        if (claimed.get() || winner.isDone()) {
+            // primary completed meanwhile, hedged request fails as canceled
+            call.cancel();
+        }
+        if (async) {
+            call.enqueue(attempt(start));
+            return;
+        }
+        HedgingApiDecorator.EXECUTOR.execute(() -> {
+            try {
+                complete(call, (projection != null ? new ProjectedCall<>(call, projection) : call).execute(), start);
+            } catch (IOException | RuntimeException e) {
+                fail(e);
+            }
+        });
+    }
+
+    private void complete(Call<T> source, Response<T> response, long start) {
+        if (source == delegate) {
+            recordPrimaryLatency(start);
+        }
+        if (response.code() >= SERVER_ERROR) {
+            // other request may still succeed, error response is returned only if it doesn't
+            errorResponse.compareAndSet(null, response);
+            settle();
+            return;
+        }
+        // winner is claimed first, so that statistics are updated before caller is notified
+        if (!claimed.compareAndSet(false, true)) {
+            return;
+        }
+        final Call<T> hedged = hedge;
+        if (hedged != null) {
+            if (source == hedged) {
+                decorator.recordHedgeWon();
+                // primary is canceled, so its latency is known only to be at least this long
+                recordPrimaryLatency(start);
+                delegate.cancel();
+            } else {
+                hedged.cancel();
+            }
+        }
+        winner.complete(response);
+    }
+
+    /**
+     * Record latency of primary request. Latency of hedged request isn't recorded, as it is capped
+     * by hedge delay and would pull learned percentile down.
+     */
+    private void recordPrimaryLatency(long start) {
+        if (primaryRecorded.compareAndSet(false, true)) {
+            window.record(System.nanoTime() - start);
+        }
+    }
+
+    private void fail(Throwable error) {
+        firstError.compareAndSet(null, error);
+        settle();
+    }
+
+    /**
+     * Complete call once every request sent has failed, with first error response or first error.
+     */
+    private void settle() {
+        if (pending.decrementAndGet() > 0 || !claimed.compareAndSet(false, true)) {
+            return;
+        }
+        final Response<T> response = errorResponse.get();
+        if (response != null) {
+            winner.complete(response);
+        } else {
+            winner.completeExceptionally(firstError.get());
+        }
+    }
+
+    private Callback<T> attempt(long start) {
+        return new Callback<T>() {
+            @Override
+            public void onResponse(Call<T> c, Response<T> response) {
+                complete(c, response, start);
+            }
+
+            @Override
+            public void onFailure(Call<T> c, Throwable t) {
+                fail(t);
+            }
+        };
+    }
+
+    @Override
+    @NonNull
+    public Response<T> execute() throws IOException {
+        begin();
+        final long start = System.nanoTime();
+        scheduleHedge(start, Projection.current(), false);
+        try {
+            complete(delegate, delegate.execute(), start);
+        } catch (IOException | RuntimeException e) {
+            fail(e);
+        }
+        try {
+            return winner.get();
+        } catch (InterruptedException e) {
+            cancel();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for hedged response");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    @Override
+    public void enqueue(@NonNull Callback<T> callback) {
+        begin();
+        final long start = System.nanoTime();
+        winner.whenComplete((response, error) -> {
+            if (error != null) {
+                callback.onFailure(this, error);
+            } else {
+                callback.onResponse(this, response);
+            }
+        });
+        scheduleHedge(start, null, true);
+        delegate.enqueue(attempt(start));
+    }
+
+    @Override
+    public boolean isExecuted() {
+        return executed;
+    }
+
+    @Override
+    public void cancel() {
+        canceled = true;
+        delegate.cancel();
+        final Call<T> hedged = hedge;
+        if (hedged != null) {
+            hedged.cancel();
+        }
+    }
+
+    @Override
+    public boolean isCanceled() {
+        return canceled;
+    }
+
+    @Override
+    @NonNull
+    public Call<T> clone() {
+        return new HedgedCall<>(delegate.clone(), decorator, window);
+    }
+
+    @Override
+    @NonNull
+    public Request request() {
+        return delegate.request();
+    }
+
+    @Override
+    @NonNull
+    public Timeout timeout() {
+        return delegate.timeout();
+    }
+}
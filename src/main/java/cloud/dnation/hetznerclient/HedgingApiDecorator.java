@@ -0,0 +1,237 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import retrofit2.Call;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link HetznerApi} decorator which hedges reads of single resource to cut tail latency.
+ * <p>Only idempotent reads are hedged. By default these are reads of single resource by ID, see
+ * {@link #HEDGED_METHODS}. List pages, see {@link #LIST_PAGE_METHODS}, can be hedged as well by passing
+ * set of methods to constructor; duplicated page is more expensive for API than duplicated read by ID. Latencies of recent primary requests are tracked per API method.
+ * When request takes longer than configured percentile of them, identical request is sent and first
+ * successful response to arrive wins, the other request is cancelled. Hedged requests are limited by {@link RetryBudget}, so that they can't double load
+ * of degraded API. Calls aren't hedged until {@value #MIN_SAMPLES} latencies of method were observed.</p>
+ * <p>Example:</p>
+ * <pre>
+ *     HetznerApi api = new HedgingApiDecorator(ClientFactory.create(() -&gt; token)).getApi();
+ * </pre>
+ */
+public class HedgingApiDecorator extends ApiDecorator {
+    /**
+     * Names of {@link HetznerApi} methods whose calls are hedged by default, reads of single resource by ID.
+     */
+    public static final Set<String> HEDGED_METHODS = ImmutableSet.of("getActionById", "getImageById",
+            "getServer", "getNetworkById", "getFirewallById", "getPlacementGroupById", "getVolumeById");
+
+    /**
+     * Names of {@link HetznerApi} methods which list page of resources matching label selector.
+     */
+    public static final Set<String> LIST_PAGE_METHODS = ImmutableSet.of("getServersBySelector",
+            "getPrimaryIpsBySelector", "getVolumes", "getNetworksBySelector", "getFirewallsBySelector",
+            "getSshKeysBySelector");
+
+    /**
+     * Number of recent latencies kept per API method.
+     */
+    static final int WINDOW_SIZE = 512;
+
+    /**
+     * Number of latencies which must be observed before calls of API method are hedged.
+     */
+    static final int MIN_SAMPLES = 32;
+
+    /**
+     * Number of new latencies after which hedge delay is recomputed.
+     */
+    private static final int RECOMPUTE_INTERVAL = 16;
+
+    static final ScheduledThreadPoolExecutor SCHEDULER = new ScheduledThreadPoolExecutor(1,
+            new ThreadFactoryBuilder().setNameFormat("hetzner-hedge-timer-%d").setDaemon(true).build());
+
+    /**
+     * Executes hedged requests of synchronous calls.
+     */
+    static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setNameFormat("hetzner-hedge-%d").setDaemon(true).build());
+
+    static {
+        SCHEDULER.setRemoveOnCancelPolicy(true);
+    }
+
+    private final double percentile;
+    private final long minDelayNanos;
+    private final RetryBudget budget;
+    private final Set<String> hedgedMethods;
+    private final ConcurrentHashMap<Method, LatencyWindow> windows = new ConcurrentHashMap<>();
+    private final AtomicLong hedged = new AtomicLong();
+    private final AtomicLong won = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * Create new decorator which hedges calls slower than 95th percentile, at least 10ms,
+     * using at most 5% of extra requests.
+     *
+     * @param api API to decorate
+     */
+    public HedgingApiDecorator(HetznerApi api) {
+        this(api, 0.95, Duration.ofMillis(10), new RetryBudget(0.05, 5, 10));
+    }
+
+    /**
+     * Create new decorator.
+     *
+     * @param api API to decorate
+     * @param percentile percentile (0.0 - 1.0) of recent latencies after which request is hedged
+     * @param minDelay lower bound of hedge delay
+     * @param budget budget of hedged requests, every call deposits to it and every hedged request withdraws
+     */
+    public HedgingApiDecorator(HetznerApi api, double percentile, Duration minDelay, RetryBudget budget) {
+        this(api, percentile, minDelay, budget, HEDGED_METHODS);
+    }
+
+    /**
+     * Create new decorator which hedges given methods.
+     *
+     * @param api API to decorate
+     * @param percentile percentile (0.0 - 1.0) of recent latencies after which request is hedged
+     * @param minDelay lower bound of hedge delay
+     * @param budget budget of hedged requests, every call deposits to it and every hedged request withdraws
+     * @param hedgedMethods names of idempotent {@link HetznerApi} methods to hedge, such as
+     *                      {@link #HEDGED_METHODS} and {@link #LIST_PAGE_METHODS}
+     */
+    public HedgingApiDecorator(HetznerApi api, double percentile, Duration minDelay, RetryBudget budget,
+                               Set<String> hedgedMethods) {
+        super(api);
+        Preconditions.checkArgument(percentile > 0 && percentile <= 1, "Percentile must be in (0, 1]");
+        Preconditions.checkArgument(!minDelay.isNegative(), "Minimum delay must not be negative");
+        this.percentile = percentile;
+        this.minDelayNanos = minDelay.toNanos();
+        this.budget = Preconditions.checkNotNull(budget, "Budget must not be null");
+        this.hedgedMethods = ImmutableSet.copyOf(hedgedMethods);
+    }
+
+    @Override
+    <T> Call<T> decorate(Method method, Call<T> call) {
+        if (!hedgedMethods.contains(method.getName())) {
+            return call;
+        }
+        return new HedgedCall<>(call, this, windows.computeIfAbsent(method, m -> new LatencyWindow(WINDOW_SIZE)));
+    }
+
+    void recordCall() {
+        budget.deposit();
+    }
+
+    long hedgeDelayNanos(LatencyWindow window) {
+        final long latency = window.percentile(percentile);
+        return latency < 0 ? -1 : Math.max(minDelayNanos, latency);
+    }
+
+    boolean tryHedge() {
+        if (!budget.tryWithdraw()) {
+            rejected.incrementAndGet();
+            return false;
+        }
+        hedged.incrementAndGet();
+        return true;
+    }
+
+    void recordHedgeWon() {
+        won.incrementAndGet();
+    }
+
+    /**
+     * Get number of hedged requests sent.
+     *
+     * @return number of hedged requests
+     */
+    public long getHedgedCount() {
+        return hedged.get();
+    }
+
+    /**
+     * Get number of calls whose hedged request responded first, that is, calls which hedging made faster.
+     *
+     * @return number of calls won by hedged request
+     */
+    public long getHedgeWonCount() {
+        return won.get();
+    }
+
+    /**
+     * Get number of hedged requests which weren't sent because budget was exhausted.
+     *
+     * @return number of rejected hedged requests
+     */
+    public long getBudgetRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * Sliding window of recent latencies of single API method.
+     */
+    static class LatencyWindow {
+        private final long[] samples;
+        private int count;
+        private int next;
+        private int sinceUpdate;
+        private long cached = -1;
+
+        LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+            sinceUpdate++;
+        }
+
+        /**
+         * Get percentile of recent latencies, using nearest rank.
+         *
+         * @param percentile percentile (0.0 - 1.0)
+         * @return latency in nanoseconds or -1 if fewer than {@value HedgingApiDecorator#MIN_SAMPLES} latencies were recorded
+         */
+        synchronized long percentile(double percentile) {
+            if (count < MIN_SAMPLES) {
+                return -1;
+            }
+            if (cached < 0 || sinceUpdate >= RECOMPUTE_INTERVAL) {
+                final long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                cached = sorted[Math.max(0, (int) Math.ceil(percentile * count) - 1)];
+                sinceUpdate = 0;
+            }
+            return cached;
+        }
+    }
+}
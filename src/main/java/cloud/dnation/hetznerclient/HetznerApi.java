@@ -41,6 +41,20 @@ public interface HetznerApi {
     @GET("/v1/actions/{id}")
     Call<ActionResponse> getActionById(@Path("id") Long actionId);
 
+    /**
+     * Get/poll the status of multiple asynchronous actions at once.
+     *
+     * @param ids the IDs of actions whose status you want to poll
+     * @param page page index
+     * @param perPage number of items per page. API imposes limit on top of this value.
+     * @return paged list of matching actions
+     * see <a href="https://docs.hetzner.cloud/#actions-get-multiple-actions">API reference</a>
+     */
+    @GET("/v1/actions")
+    Call<GetActionsResponse> getActions(@Query("id") List<Long> ids,
+                                        @Query("page") int page,
+                                        @Query("per_page") int perPage);
+
     /**
      * Get all images that matches given label expression.
      *
@@ -162,6 +176,20 @@ public interface HetznerApi {
     @GET("/v1/ssh_keys")
     Call<GetSshKeysBySelectorResponse> getSshKeysBySelector(@Query("label_selector") String selector);
 
+    /**
+     * Find SSH keys matching given label selector.
+     *
+     * @param selector label selector used to match keys
+     * @param page page index
+     * @param perPage number of items per page. API imposes limit on top of this value.
+     * @return paged list of matched SSH keys
+     * See <a href="https://docs.hetzner.cloud/#ssh-keys-get-all-ssh-keys">API reference</a>
+     */
+    @GET("/v1/ssh_keys")
+    Call<GetSshKeysBySelectorResponse> getSshKeysBySelector(@Query("label_selector") String selector,
+                                                            @Query("page") int page,
+                                                            @Query("per_page") int perPage);
+
     /**
      * Get all server matching given label selector.
      *
@@ -219,6 +247,20 @@ public interface HetznerApi {
     @GET("/v1/firewalls")
     Call<GetFirewallsBySelectorResponse> getFirewallsBySelector(@Query("label_selector") String selector);
 
+    /**
+     * Get all firewalls matching given label selector.
+     *
+     * @param selector label selector used to match firewalls
+     * @param page page index
+     * @param perPage number of items per page. API imposes limit on top of this value.
+     * @return paged list of firewalls
+     * see <a href="https://docs.hetzner.cloud/reference/cloud#firewalls-list-firewalls">API reference</a>
+     */
+    @GET("/v1/firewalls")
+    Call<GetFirewallsBySelectorResponse> getFirewallsBySelector(@Query("label_selector") String selector,
+                                                                @Query("page") int page,
+                                                                @Query("per_page") int perPage);
+
     /**
      * Get single firewall by ID.
      *
@@ -276,6 +318,16 @@ public interface HetznerApi {
     @GET("/v1/primary_ips")
     Call<GetAllPrimaryIpsResponse> getAllPrimaryIps(@Query("label_selector") String selector);
 
+    /**
+     * Delete Primary IP. Primary IP must not be assigned to server.
+     *
+     * @param id ID of Primary IP to delete
+     * @return {@link ErrorDetail} in case of error, empty response otherwise
+     * see <a href="https://docs.hetzner.cloud/#primary-ips-delete-a-primary-ip">API reference</a>
+     */
+    @DELETE("/v1/primary_ips/{id}")
+    Call<ErrorDetail> deletePrimaryIp(@Path("id") long id);
+
     /**
      * Get volume detail based on ID.
      *
@@ -0,0 +1,183 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory mirror of servers, primary IPs, volumes, networks and firewalls matching label selector.
+ * <p>Once {@link #start() started}, all mirrors are refreshed periodically in background.
+ * Failed refresh of resource type is logged and its previous snapshot is kept.</p>
+ * <p>Example:</p>
+ * <pre>
+ *     InventoryMirror mirror = new InventoryMirror(api, "jenkins.io/managed-by=hetzner");
+ *     mirror.servers().addListener(new MirrorListener&lt;ServerDetail&gt;() {
+ *         public void onRemoved(ServerDetail server) {
+ *             ...
+ *         }
+ *     });
+ *     mirror.start();
+ *     ServerDetail server = mirror.servers().getSnapshot().get(serverId);
+ * </pre>
+ */
+@Slf4j
+public class InventoryMirror implements Closeable {
+    private final ResourceMirror<ServerDetail> servers;
+    private final ResourceMirror<PrimaryIpDetail> primaryIps;
+    private final ResourceMirror<VolumeDetail> volumes;
+    private final ResourceMirror<NetworkDetail> networks;
+    private final ResourceMirror<FirewallDetail> firewalls;
+    private final List<ResourceMirror<?>> mirrors;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownScheduler;
+    private final long intervalMillis;
+    private ScheduledFuture<?> refreshLoop;
+
+    /**
+     * Create new mirror which refreshes every 10 seconds using default paging options.
+     *
+     * @param api {@link HetznerApi} used to fetch resources
+     * @param labelSelector label selector to restrict mirrored resources, may be null
+     */
+    public InventoryMirror(HetznerApi api, String labelSelector) {
+        this(api, labelSelector, PagingOptions.DEFAULT, null, Duration.ofSeconds(10));
+    }
+
+    /**
+     * Create new mirror.
+     *
+     * @param api {@link HetznerApi} used to fetch resources
+     * @param labelSelector label selector to restrict mirrored resources, may be null
+     * @param options paging options used to fetch resources
+     * @param scheduler scheduler to run refresh loop on. When null, mirror creates (and owns) single daemon thread.
+     * @param interval delay between end of refresh and start of next one
+     */
+    public InventoryMirror(HetznerApi api, String labelSelector, PagingOptions options,
+                           ScheduledExecutorService scheduler, Duration interval) {
+        Preconditions.checkArgument(!interval.isNegative() && !interval.isZero(), "Interval must be positive");
+        this.servers = new ResourceMirror<>("servers",
+                () -> PagedResourceHelper.getAllServers(api, labelSelector, options), ServerDetail::getLabels);
+        this.primaryIps = new ResourceMirror<>("primary IPs",
+                () -> PagedResourceHelper.getAllPrimaryIps(api, labelSelector, options), PrimaryIpDetail::getLabels);
+        this.volumes = new ResourceMirror<>("volumes",
+                () -> PagedResourceHelper.getAllVolumes(api, labelSelector, options), VolumeDetail::getLabels);
+        this.networks = new ResourceMirror<>("networks",
+                () -> PagedResourceHelper.getAllNetworks(api, labelSelector, options), NetworkDetail::getLabels);
+        this.firewalls = new ResourceMirror<>("firewalls",
+                () -> PagedResourceHelper.getAllFirewalls(api, labelSelector, options), FirewallDetail::getLabels);
+        this.mirrors = ImmutableList.of(servers, primaryIps, volumes, networks, firewalls);
+        this.ownScheduler = scheduler == null;
+        this.scheduler = scheduler != null ? scheduler : Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("hetzner-inventory-mirror-%d").setDaemon(true).build());
+        this.intervalMillis = interval.toMillis();
+    }
+
+    public ResourceMirror<ServerDetail> servers() {
+        return servers;
+    }
+
+    public ResourceMirror<PrimaryIpDetail> primaryIps() {
+        return primaryIps;
+    }
+
+    public ResourceMirror<VolumeDetail> volumes() {
+        return volumes;
+    }
+
+    public ResourceMirror<NetworkDetail> networks() {
+        return networks;
+    }
+
+    public ResourceMirror<FirewallDetail> firewalls() {
+        return firewalls;
+    }
+
+    /**
+     * Refresh all mirrors on calling thread.
+     * All mirrors are refreshed even if some of them fail, first failure is then rethrown
+     * with others attached as suppressed.
+     *
+     * @throws IOException if first failed refresh failed with I/O error
+     * @throws RuntimeException if first failed refresh failed otherwise, such as with error response of API
+     */
+    public void refresh() throws IOException {
+        Exception failure = null;
+        for (ResourceMirror<?> mirror : mirrors) {
+            try {
+                mirror.refresh();
+            } catch (IOException | RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        }
+        if (failure != null) {
+            throw (RuntimeException) failure;
+        }
+    }
+
+    /**
+     * Start periodic refresh in background. First refresh starts immediately.
+     */
+    public synchronized void start() {
+        Preconditions.checkState(!scheduler.isShutdown(), "Mirror is closed");
+        if (refreshLoop == null) {
+            refreshLoop = scheduler.scheduleWithFixedDelay(this::refreshQuietly, 0, intervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void refreshQuietly() {
+        for (ResourceMirror<?> mirror : mirrors) {
+            try {
+                mirror.refresh();
+            } catch (IOException | RuntimeException e) {
+                log.warn("Unable to refresh {}", mirror, e);
+            }
+        }
+    }
+
+    /**
+     * Stop periodic refresh. Snapshots remain readable.
+     */
+    @Override
+    public synchronized void close() {
+        if (refreshLoop != null) {
+            refreshLoop.cancel(false);
+            refreshLoop = null;
+        }
+        if (ownScheduler) {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parsed label selector, which can be evaluated locally.
+ * <p>Supported syntax is same as of {@code label_selector} query parameter of API. Selector consists
+ * of comma-separated requirements, all of which must be satisfied:</p>
+ * <ul>
+ *     <li>{@code k=v} or {@code k==v} - label {@code k} has value {@code v}</li>
+ *     <li>{@code k!=v} - label {@code k} is missing or has value other than {@code v}</li>
+ *     <li>{@code k} - label {@code k} is present</li>
+ *     <li>{@code !k} - label {@code k} is missing</li>
+ *     <li>{@code k in (v1,v2)} - label {@code k} has one of values</li>
+ *     <li>{@code k notin (v1,v2)} - label {@code k} is missing or has none of values</li>
+ * </ul>
+ */
+@EqualsAndHashCode
+public final class LabelSelector {
+    /**
+     * Selector without requirements, which matches everything.
+     */
+    public static final LabelSelector ALL = new LabelSelector(ImmutableList.of());
+
+    @Getter
+    private final List<Requirement> requirements;
+
+    private LabelSelector(List<Requirement> requirements) {
+        this.requirements = requirements;
+    }
+
+    /**
+     * Parse label selector.
+     *
+     * @param selector label selector, null or blank selector matches everything
+     * @return parsed selector
+     * @throws IllegalArgumentException if selector is not valid
+     */
+    public static LabelSelector parse(String selector) {
+        if (selector == null || selector.trim().isEmpty()) {
+            return ALL;
+        }
+        return new LabelSelector(new Parser(selector).parse());
+    }
+
+    /**
+     * Check whether labels satisfy all requirements of selector.
+     *
+     * @param labels labels of resource, may be null
+     * @return true if labels match
+     */
+    public boolean matches(Map<String, String> labels) {
+        for (Requirement requirement : requirements) {
+            if (!requirement.matches(labels)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return Joiner.on(',').join(requirements);
+    }
+
+    public enum Operator {
+        EQUALS,
+        NOT_EQUALS,
+        IN,
+        NOT_IN,
+        EXISTS,
+        NOT_EXISTS
+    }
+
+    /**
+     * Single requirement of selector.
+     */
+    @Getter
+    @EqualsAndHashCode
+    public static final class Requirement {
+        private final String key;
+        private final Operator operator;
+        private final ImmutableSet<String> values;
+
+        Requirement(String key, Operator operator, ImmutableSet<String> values) {
+            this.key = key;
+            this.operator = operator;
+            this.values = values;
+        }
+
+        /**
+         * Whether requirement can only be satisfied by resources having label {@link #getKey()}.
+         *
+         * @return true for {@link Operator#EQUALS}, {@link Operator#IN} and {@link Operator#EXISTS}
+         */
+        public boolean requiresKey() {
+            return operator == Operator.EQUALS || operator == Operator.IN || operator == Operator.EXISTS;
+        }
+
+        boolean matches(Map<String, String> labels) {
+            final String value = labels != null ? labels.get(key) : null;
+            final boolean present = labels != null && labels.containsKey(key);
+            switch (operator) {
+                case EQUALS:
+                case IN:
+                    return present && values.contains(value == null ? "" : value);
+                case NOT_EQUALS:
+                case NOT_IN:
+                    return !present || !values.contains(value == null ? "" : value);
+                case EXISTS:
+                    return present;
+                case NOT_EXISTS:
+                    return !present;
+                default:
+                    throw new IllegalStateException("Unknown operator: " + operator);
+            }
+        }
+
+        @Override
+        public String toString() {
+            switch (operator) {
+                case EQUALS:
+                    return key + "=" + values.iterator().next();
+                case NOT_EQUALS:
+                    return key + "!=" + values.iterator().next();
+                case IN:
+                    return key + " in (" + Joiner.on(',').join(values) + ")";
+                case NOT_IN:
+                    return key + " notin (" + Joiner.on(',').join(values) + ")";
+                case EXISTS:
+                    return key;
+                default:
+                    return "!" + key;
+            }
+        }
+    }
+
+    private static final class Parser {
+        private final String input;
+        private int pos;
+
+        private Parser(String input) {
+            this.input = input;
+        }
+
+        private List<Requirement> parse() {
+            final ImmutableList.Builder<Requirement> result = ImmutableList.builder();
+            do {
+                result.add(requirement());
+                skipWhitespace();
+            } while (consume(','));
+            if (pos < input.length()) {
+                throw error("unexpected character '" + input.charAt(pos) + "'");
+            }
+            return result.build();
+        }
+
+        private Requirement requirement() {
+            skipWhitespace();
+            if (consume('!')) {
+                return new Requirement(key(), Operator.NOT_EXISTS, ImmutableSet.of());
+            }
+            final String key = key();
+            skipWhitespace();
+            if (consume('=')) {
+                consume('=');
+                return new Requirement(key, Operator.EQUALS, ImmutableSet.of(value()));
+            }
+            if (consume('!')) {
+                expect('=');
+                return new Requirement(key, Operator.NOT_EQUALS, ImmutableSet.of(value()));
+            }
+            if (consumeWord("notin")) {
+                return new Requirement(key, Operator.NOT_IN, valueSet());
+            }
+            if (consumeWord("in")) {
+                return new Requirement(key, Operator.IN, valueSet());
+            }
+            return new Requirement(key, Operator.EXISTS, ImmutableSet.of());
+        }
+
+        private String key() {
+            skipWhitespace();
+            final String key = token(true);
+            if (key.isEmpty()) {
+                throw error("label key expected");
+            }
+            return key;
+        }
+
+        private String value() {
+            skipWhitespace();
+            return token(false);
+        }
+
+        private ImmutableSet<String> valueSet() {
+            skipWhitespace();
+            expect('(');
+            final ImmutableSet.Builder<String> values = ImmutableSet.builder();
+            do {
+                values.add(value());
+                skipWhitespace();
+            } while (consume(','));
+            expect(')');
+            return values.build();
+        }
+
+        private String token(boolean key) {
+            final int start = pos;
+            while (pos < input.length() && isTokenChar(input.charAt(pos), key)) {
+                pos++;
+            }
+            return input.substring(start, pos);
+        }
+
+        private static boolean isTokenChar(char c, boolean key) {
+            return Character.isLetterOrDigit(c) || c == '-' || c == '_' || c == '.' || (key && c == '/');
+        }
+
+        private boolean consumeWord(String word) {
+            if (input.startsWith(word, pos)) {
+                final int end = pos + word.length();
+                if (end < input.length() && (Character.isWhitespace(input.charAt(end)) || input.charAt(end) == '(')) {
+                    pos = end;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean consume(char c) {
+            if (pos < input.length() && input.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) {
+            skipWhitespace();
+            if (!consume(c)) {
+                throw error("'" + c + "' expected");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (pos < input.length() && Character.isWhitespace(input.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("Invalid label selector '" + input + "' at position " + pos
+                    + ": " + message);
+        }
+    }
+}
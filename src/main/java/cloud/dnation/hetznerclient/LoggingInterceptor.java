@@ -0,0 +1,165 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.net.HttpHeaders;
+import lombok.NonNull;
+import okhttp3.Headers;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okhttp3.logging.HttpLoggingInterceptor.Level;
+import okio.Buffer;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Interceptor} which logs requests and responses.
+ * <p>Level of detail is derived from state of logger on every request: bodies and headers are logged
+ * when TRACE is enabled, single line per request when DEBUG is enabled, nothing otherwise.
+ * Use {@link Level#NONE} as maximum level to keep DEBUG logger quiet.
+ * Nothing is buffered or copied when logging is disabled.
+ * Logged bodies are truncated to configured number of bytes and can be sampled.</p>
+ */
+class LoggingInterceptor implements Interceptor {
+    private final Logger log;
+    private final Level maxLevel;
+    private final long maxBodyBytes;
+    private final double bodySampleRate;
+
+    /**
+     * Create new interceptor.
+     *
+     * @param log logger to write to
+     * @param maxLevel upper bound of level of detail, regardless of logger state
+     * @param maxBodyBytes maximum number of bytes of body to log
+     * @param bodySampleRate fraction of requests whose bodies are logged
+     */
+    LoggingInterceptor(Logger log, Level maxLevel, long maxBodyBytes, double bodySampleRate) {
+        this.log = log;
+        this.maxLevel = maxLevel;
+        this.maxBodyBytes = maxBodyBytes;
+        this.bodySampleRate = bodySampleRate;
+    }
+
+    Level effectiveLevel() {
+        final Level level;
+        if (log.isTraceEnabled()) {
+            level = Level.BODY;
+        } else if (log.isDebugEnabled()) {
+            level = Level.BASIC;
+        } else {
+            level = Level.NONE;
+        }
+        return level.compareTo(maxLevel) <= 0 ? level : maxLevel;
+    }
+
+    @Override
+    @NonNull
+    public Response intercept(Chain chain) throws IOException {
+        Level level = effectiveLevel();
+        if (level == Level.NONE) {
+            return chain.proceed(chain.request());
+        }
+        if (level == Level.BODY && bodySampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= bodySampleRate) {
+            level = Level.HEADERS;
+        }
+        final Request request = chain.request();
+        final boolean verbose = level != Level.BASIC;
+        if (verbose) {
+            log.trace("--> {} {}", request.method(), request.url());
+            logHeaders(request.headers());
+            if (level == Level.BODY && request.body() != null) {
+                logRequestBody(request.body());
+            }
+            log.trace("--> END {}", request.method());
+        }
+        final long start = System.nanoTime();
+        final Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException e) {
+            if (verbose) {
+                log.trace("<-- HTTP FAILED: {}", e.toString());
+            } else {
+                log.debug("{} {} failed: {}", request.method(), request.url(), e.toString());
+            }
+            throw e;
+        }
+        final long tookMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (!verbose) {
+            log.debug("{} {} -> {} ({}ms)", request.method(), request.url(), response.code(), tookMs);
+            return response;
+        }
+        log.trace("<-- {} {} {} ({}ms)", response.code(), response.message(), response.request().url(), tookMs);
+        logHeaders(response.headers());
+        if (level == Level.BODY && response.body() != null) {
+            logResponseBody(response);
+        }
+        log.trace("<-- END HTTP");
+        return response;
+    }
+
+    private void logHeaders(Headers headers) {
+        for (int i = 0; i < headers.size(); i++) {
+            final String name = headers.name(i);
+            log.trace("{}: {}", name, HttpHeaders.AUTHORIZATION.equalsIgnoreCase(name) ? "██" : headers.value(i));
+        }
+    }
+
+    private void logRequestBody(RequestBody body) throws IOException {
+        if (!isPlainText(body.contentType())) {
+            log.trace("(binary {}-byte body omitted)", body.contentLength());
+            return;
+        }
+        final Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+        final long size = buffer.size();
+        log.trace("{}", buffer.readString(Math.min(size, maxBodyBytes), StandardCharsets.UTF_8));
+        if (size > maxBodyBytes) {
+            log.trace("({}-byte body truncated)", size);
+        }
+    }
+
+    private void logResponseBody(Response response) throws IOException {
+        final ResponseBody body = response.body();
+        if (!isPlainText(body.contentType())) {
+            log.trace("(binary {}-byte body omitted)", body.contentLength());
+            return;
+        }
+        // only first maxBodyBytes are buffered, rest of body is streamed to consumer as usual
+        final byte[] peeked = response.peekBody(maxBodyBytes + 1).bytes();
+        if (peeked.length > maxBodyBytes) {
+            log.trace("{}", new String(peeked, 0, (int) maxBodyBytes, StandardCharsets.UTF_8));
+            log.trace("(body truncated)");
+        } else {
+            log.trace("{}", new String(peeked, StandardCharsets.UTF_8));
+        }
+    }
+
+    private static boolean isPlainText(MediaType contentType) {
+        return contentType == null
+                || "text".equals(contentType.type())
+                || contentType.subtype().contains("json");
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import lombok.NonNull;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+import java.io.IOException;
+import java.util.function.LongConsumer;
+
+/**
+ * {@link Interceptor} which reports every exchange to {@link ClientMetrics}.
+ * <p>Request size is taken from declared content length. Response size is number of bytes read from body,
+ * so exchange is reported once response body is closed. Bodies are not buffered.</p>
+ */
+class MetricsInterceptor implements Interceptor {
+    private final ClientMetrics metrics;
+
+    MetricsInterceptor(ClientMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    @NonNull
+    public Response intercept(Chain chain) throws IOException {
+        final Request request = chain.request();
+        final String operation = Operations.of(request);
+        final long bytesOut = request.body() != null ? request.body().contentLength() : 0;
+        final long start = System.nanoTime();
+        final Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException e) {
+            metrics.recordRequest(operation, -1, System.nanoTime() - start, bytesOut, -1);
+            throw e;
+        }
+        final long latencyNanos = System.nanoTime() - start;
+        final int status = response.code();
+        final String remaining = response.header(RateLimitGovernor.HEADER_REMAINING);
+        if (remaining != null) {
+            try {
+                metrics.recordRateLimitRemaining(Long.parseLong(remaining.trim()));
+            } catch (NumberFormatException e) {
+                // ignore malformed header, governor copes with it as well
+            }
+        }
+        return response.newBuilder()
+                .body(new CountingResponseBody(response.body(),
+                        bytesIn -> metrics.recordRequest(operation, status, latencyNanos, bytesOut, bytesIn)))
+                .build();
+    }
+
+    /**
+     * {@link ResponseBody} which counts bytes read by consumer and reports their number once closed,
+     * or -1 if body wasn't read to end.
+     */
+    private static class CountingResponseBody extends ResponseBody {
+        private final ResponseBody delegate;
+        private final LongConsumer onClose;
+        private BufferedSource source;
+
+        CountingResponseBody(ResponseBody delegate, LongConsumer onClose) {
+            this.delegate = delegate;
+            this.onClose = onClose;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return delegate.contentLength();
+        }
+
+        @Override
+        @NonNull
+        public BufferedSource source() {
+            if (source == null) {
+                source = Okio.buffer(new ForwardingSource(delegate.source()) {
+                    private long count;
+                    private boolean exhausted;
+                    private boolean closed;
+
+                    @Override
+                    public long read(@NonNull Buffer sink, long byteCount) throws IOException {
+                        final long read = super.read(sink, byteCount);
+                        if (read == -1) {
+                            exhausted = true;
+                        } else {
+                            count += read;
+                        }
+                        return read;
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        if (!closed) {
+                            closed = true;
+                            onClose.accept(exhausted ? count : -1);
+                        }
+                        super.close();
+                    }
+                });
+            }
+            return source;
+        }
+    }
+
+    /**
+     * Wrap retry listener so that retries are reported to metrics as well.
+     *
+     * @param delegate listener to delegate to
+     * @param metrics metrics to report retries to
+     * @return composite listener
+     */
+    static RetryListener retryListener(RetryListener delegate, ClientMetrics metrics) {
+        return new RetryListener() {
+            @Override
+            public void onAttempt(Request request, int attempt, long latencyNanos, int code) {
+                delegate.onAttempt(request, attempt, latencyNanos, code);
+            }
+
+            @Override
+            public void onRetry(Request request, int attempt, long delayMillis) {
+                metrics.recordRetry(Operations.of(request));
+                delegate.onRetry(request, attempt, delayMillis);
+            }
+
+            @Override
+            public void onBudgetExhausted(Request request) {
+                delegate.onBudgetExhausted(request);
+            }
+        };
+    }
+}
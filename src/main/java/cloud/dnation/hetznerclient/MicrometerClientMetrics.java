@@ -0,0 +1,148 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.http.Outcome;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@link ClientMetrics} backed by Micrometer {@link MeterRegistry}.
+ * Requires {@code io.micrometer:micrometer-core} on classpath.
+ * <p>Following meters are registered, tagged by {@code client} name and by {@code method} and {@code uri}
+ * of operation:</p>
+ * <ul>
+ *     <li>{@code hetzner.client.requests} - timer with percentile histogram, additionally tagged
+ *     by {@code status} and {@code outcome}</li>
+ *     <li>{@code hetzner.client.request.size}, {@code hetzner.client.response.size} - body sizes in bytes</li>
+ *     <li>{@code hetzner.client.retries} - number of retries</li>
+ *     <li>{@code hetzner.client.pages} - pages fetched per {@link PagedResourceHelper#fetchItems} call</li>
+ * </ul>
+ * <p>and gauge {@code hetzner.client.ratelimit.remaining} tagged only by {@code client}.
+ * Rate limit is tracked per API token, so clients using different tokens should report
+ * to instances with different names.
+ * Meters are looked up once per operation and status, recording doesn't allocate afterwards.</p>
+ */
+public class MicrometerClientMetrics implements ClientMetrics {
+    private static final int MAX_STATUS = 599;
+
+    private final MeterRegistry registry;
+    private final Tags clientTags;
+    private final ConcurrentHashMap<String, OperationMeters> operations = new ConcurrentHashMap<>();
+    private final AtomicLong rateLimitRemaining = new AtomicLong();
+
+    /**
+     * Create new metrics with {@code client} tag set to {@code default}.
+     *
+     * @param registry registry to register meters in
+     */
+    public MicrometerClientMetrics(MeterRegistry registry) {
+        this(registry, "default");
+    }
+
+    /**
+     * Create new metrics of single client.
+     *
+     * @param registry registry to register meters in
+     * @param client value of {@code client} tag, e.g. name of project whose token is used
+     */
+    public MicrometerClientMetrics(MeterRegistry registry, String client) {
+        this.registry = registry;
+        this.clientTags = Tags.of("client", client);
+        registry.gauge("hetzner.client.ratelimit.remaining", clientTags, rateLimitRemaining);
+    }
+
+    @Override
+    public void recordRequest(String operation, int status, long latencyNanos, long bytesOut, long bytesIn) {
+        final OperationMeters meters = meters(operation);
+        meters.timer(status).record(latencyNanos, TimeUnit.NANOSECONDS);
+        if (bytesOut >= 0) {
+            meters.requestSize.record(bytesOut);
+        }
+        if (bytesIn >= 0) {
+            meters.responseSize.record(bytesIn);
+        }
+    }
+
+    @Override
+    public void recordRetry(String operation) {
+        meters(operation).retries.increment();
+    }
+
+    @Override
+    public void recordRateLimitRemaining(long remaining) {
+        rateLimitRemaining.set(remaining);
+    }
+
+    @Override
+    public void recordPages(String operation, int pages) {
+        meters(operation).pages.record(pages);
+    }
+
+    private OperationMeters meters(String operation) {
+        final OperationMeters meters = operations.get(operation);
+        return meters != null ? meters : operations.computeIfAbsent(operation, OperationMeters::new);
+    }
+
+    private class OperationMeters {
+        private final Tags tags;
+        private final DistributionSummary requestSize;
+        private final DistributionSummary responseSize;
+        private final Counter retries;
+        private final DistributionSummary pages;
+        /**
+         * Timers indexed by status code, index 0 is used for I/O errors and unexpected codes.
+         */
+        private final AtomicReferenceArray<Timer> timers = new AtomicReferenceArray<>(MAX_STATUS + 1);
+
+        OperationMeters(String operation) {
+            final int space = operation.indexOf(' ');
+            tags = clientTags.and(space < 0 ? Tags.of("method", "UNKNOWN", "uri", operation)
+                    : Tags.of("method", operation.substring(0, space), "uri", operation.substring(space + 1)));
+            requestSize = DistributionSummary.builder("hetzner.client.request.size")
+                    .baseUnit("bytes").tags(tags).register(registry);
+            responseSize = DistributionSummary.builder("hetzner.client.response.size")
+                    .baseUnit("bytes").tags(tags).register(registry);
+            retries = Counter.builder("hetzner.client.retries").tags(tags).register(registry);
+            pages = DistributionSummary.builder("hetzner.client.pages").tags(tags).register(registry);
+        }
+
+        Timer timer(int status) {
+            final int index = status >= 100 && status <= MAX_STATUS ? status : 0;
+            final Timer timer = timers.get(index);
+            if (timer != null) {
+                return timer;
+            }
+            // registry returns existing timer when called concurrently with same tags
+            final Timer created = Timer.builder("hetzner.client.requests")
+                    .tags(tags)
+                    .tag("status", index == 0 ? "IO_ERROR" : Integer.toString(index))
+                    .tag("outcome", index == 0 ? Outcome.UNKNOWN.name() : Outcome.forStatus(index).name())
+                    .publishPercentileHistogram()
+                    .register(registry);
+            timers.set(index, created);
+            return created;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+/**
+ * Receives changes detected by {@link ResourceMirror} during refresh.
+ * Events are delivered on thread which performed refresh, after new snapshot was published.
+ *
+ * @param <T> resource type
+ */
+public interface MirrorListener<T> {
+    /**
+     * Resource appeared.
+     *
+     * @param resource new resource
+     */
+    default void onAdded(T resource) {
+    }
+
+    /**
+     * Resource with same ID exists in both snapshots, but its state differs.
+     *
+     * @param previous previous state of resource
+     * @param current current state of resource
+     */
+    default void onChanged(T previous, T current) {
+    }
+
+    /**
+     * Resource disappeared.
+     *
+     * @param resource last known state of resource
+     */
+    default void onRemoved(T resource) {
+    }
+}
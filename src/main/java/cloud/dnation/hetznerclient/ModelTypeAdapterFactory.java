@@ -0,0 +1,457 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link TypeAdapterFactory} with hand-written adapters for models that are decoded most often
+ * (list items and pagination). Adapters read fields straight from {@link JsonReader}, without reflection,
+ * and skip fields they don't know. List items also skip fields outside of {@link Projection} in effect.
+ * Serialization is left to reflective adapters.
+ */
+class ModelTypeAdapterFactory implements TypeAdapterFactory {
+    static final ModelTypeAdapterFactory INSTANCE = new ModelTypeAdapterFactory();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        final Class<? super T> raw = type.getRawType();
+        final TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+        if (raw == Pagination.class) {
+            return (TypeAdapter<T>) new PaginationAdapter((TypeAdapter<Pagination>) delegate);
+        }
+        if (raw == Meta.class) {
+            return (TypeAdapter<T>) new MetaAdapter(gson, (TypeAdapter<Meta>) delegate);
+        }
+        if (raw == IdentifiableResource.class) {
+            return (TypeAdapter<T>) new IdentifiableResourceAdapter((TypeAdapter<IdentifiableResource>) delegate);
+        }
+        if (raw == ActionDetail.class) {
+            return (TypeAdapter<T>) new ActionDetailAdapter(gson, (TypeAdapter<ActionDetail>) delegate);
+        }
+        if (raw == ServerDetail.class) {
+            return (TypeAdapter<T>) new ServerDetailAdapter(gson, (TypeAdapter<ServerDetail>) delegate);
+        }
+        if (raw == PrimaryIpDetail.class) {
+            return (TypeAdapter<T>) new PrimaryIpDetailAdapter(gson, (TypeAdapter<PrimaryIpDetail>) delegate);
+        }
+        return null;
+    }
+
+    /**
+     * Base of hand-written adapters. Reads JSON object field by field, unknown fields are skipped.
+     *
+     * @param <T> model type
+     */
+    abstract static class ModelAdapter<T> extends TypeAdapter<T> {
+        private final TypeAdapter<T> delegate;
+
+        ModelAdapter(TypeAdapter<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        abstract T newInstance();
+
+        /**
+         * Whether fields of this model are subject to {@link Projection}.
+         */
+        boolean isProjectable() {
+            return false;
+        }
+
+        /**
+         * Read value of single field into target object.
+         *
+         * @return false if field is not known, in which case its value is skipped
+         */
+        abstract boolean readField(String name, JsonReader in, T target) throws IOException;
+
+        @Override
+        public void write(JsonWriter out, T value) throws IOException {
+            delegate.write(out, value);
+        }
+
+        @Override
+        public T read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            final T target = newInstance();
+            final Projection projection = isProjectable() ? Projection.current() : null;
+            in.beginObject();
+            while (in.hasNext()) {
+                final String name = in.nextName();
+                if ((projection != null && !projection.includes(name)) || !readField(name, in, target)) {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return target;
+        }
+    }
+
+    static String nextString(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextString();
+    }
+
+    static Long nextLong(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextLong();
+    }
+
+    static Integer nextInt(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextInt();
+    }
+
+    static Boolean nextBoolean(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextBoolean();
+    }
+
+    static Map<String, String> nextLabels(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        final Map<String, String> labels = new HashMap<>();
+        in.beginObject();
+        while (in.hasNext()) {
+            labels.put(in.nextName(), nextString(in));
+        }
+        in.endObject();
+        return labels;
+    }
+
+    static <E> List<E> nextList(JsonReader in, TypeAdapter<E> elementAdapter) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        final List<E> list = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            list.add(elementAdapter.read(in));
+        }
+        in.endArray();
+        return list;
+    }
+
+    static final class PaginationAdapter extends ModelAdapter<Pagination> {
+        PaginationAdapter(TypeAdapter<Pagination> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        Pagination newInstance() {
+            return new Pagination();
+        }
+
+        @Override
+        boolean readField(String name, JsonReader in, Pagination target) throws IOException {
+            switch (name) {
+                case Pagination.SERIALIZED_NAME_PAGE:
+                    target.setPage(nextString(in));
+                    return true;
+                case Pagination.SERIALIZED_NAME_PER_PAGE:
+                    target.setPerPage(nextString(in));
+                    return true;
+                case Pagination.SERIALIZED_NAME_PREVIOUS_PAGE:
+                    target.setPreviousPage(nextString(in));
+                    return true;
+                case Pagination.SERIALIZED_NAME_NEXT_PAGE:
+                    target.setNextPage(nextString(in));
+                    return true;
+                case Pagination.SERIALIZED_NAME_LAST_PAGE:
+                    target.setLastPage(nextString(in));
+                    return true;
+                case Pagination.SERIALIZED_NAME_TOTAL_ENTRIES:
+                    target.setTotalEntries(nextString(in));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    static final class MetaAdapter extends ModelAdapter<Meta> {
+        private final TypeAdapter<Pagination> paginationAdapter;
+
+        MetaAdapter(Gson gson, TypeAdapter<Meta> delegate) {
+            super(delegate);
+            this.paginationAdapter = gson.getAdapter(Pagination.class);
+        }
+
+        @Override
+        Meta newInstance() {
+            return new Meta();
+        }
+
+        @Override
+        boolean readField(String name, JsonReader in, Meta target) throws IOException {
+            if (Meta.SERIALIZED_NAME_PAGINATION.equals(name)) {
+                target.setPagination(paginationAdapter.read(in));
+                return true;
+            }
+            return false;
+        }
+    }
+
+    static final class IdentifiableResourceAdapter extends ModelAdapter<IdentifiableResource> {
+        IdentifiableResourceAdapter(TypeAdapter<IdentifiableResource> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        IdentifiableResource newInstance() {
+            return new IdentifiableResource();
+        }
+
+        @Override
+        boolean readField(String name, JsonReader in, IdentifiableResource target) throws IOException {
+            if (IdentifiableResource.SERIALIZED_NAME_ID.equals(name)) {
+                target.setId(nextLong(in));
+                return true;
+            }
+            return false;
+        }
+    }
+
+    static final class ActionDetailAdapter extends ModelAdapter<ActionDetail> {
+        private final TypeAdapter<ErrorDetail> errorAdapter;
+        private final TypeAdapter<IdentifiableResource> resourceAdapter;
+
+        ActionDetailAdapter(Gson gson, TypeAdapter<ActionDetail> delegate) {
+            super(delegate);
+            this.errorAdapter = gson.getAdapter(ErrorDetail.class);
+            this.resourceAdapter = gson.getAdapter(IdentifiableResource.class);
+        }
+
+        @Override
+        ActionDetail newInstance() {
+            return new ActionDetail();
+        }
+
+        @Override
+        boolean readField(String name, JsonReader in, ActionDetail target) throws IOException {
+            switch (name) {
+                case IdentifiableResource.SERIALIZED_NAME_ID:
+                    target.setId(nextLong(in));
+                    return true;
+                case ActionDetail.SERIALIZED_NAME_COMMAND:
+                    target.setCommand(nextString(in));
+                    return true;
+                case ActionDetail.SERIALIZED_NAME_STATUS:
+                    target.setStatus(nextString(in));
+                    return true;
+                case ActionDetail.SERIALIZED_NAME_PROGRESS:
+                    target.setProgress(nextInt(in));
+                    return true;
+                case ActionDetail.SERIALIZED_NAME_ERROR:
+                    target.setError(errorAdapter.read(in));
+                    return true;
+                case ActionDetail.SERIALIZED_NAME_RESOURCES:
+                    target.setResources(nextList(in, resourceAdapter));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    static final class ServerDetailAdapter extends ModelAdapter<ServerDetail> {
+        private final TypeAdapter<DatacenterDetail> datacenterAdapter;
+        private final TypeAdapter<LocationDetail> locationAdapter;
+        private final TypeAdapter<ImageDetail> imageAdapter;
+        private final TypeAdapter<PlacementGroupDetail> placementGroupAdapter;
+        private final TypeAdapter<PrivateNetDetail> privateNetAdapter;
+        private final TypeAdapter<PublicNetDetail> publicNetAdapter;
+        private final TypeAdapter<ServerType> serverTypeAdapter;
+
+        ServerDetailAdapter(Gson gson, TypeAdapter<ServerDetail> delegate) {
+            super(delegate);
+            this.datacenterAdapter = gson.getAdapter(DatacenterDetail.class);
+            this.locationAdapter = gson.getAdapter(LocationDetail.class);
+            this.imageAdapter = gson.getAdapter(ImageDetail.class);
+            this.placementGroupAdapter = gson.getAdapter(PlacementGroupDetail.class);
+            this.privateNetAdapter = gson.getAdapter(PrivateNetDetail.class);
+            this.publicNetAdapter = gson.getAdapter(PublicNetDetail.class);
+            this.serverTypeAdapter = gson.getAdapter(ServerType.class);
+        }
+
+        @Override
+        ServerDetail newInstance() {
+            return new ServerDetail();
+        }
+
+        @Override
+        boolean isProjectable() {
+            return true;
+        }
+
+        @Override
+        boolean readField(String name, JsonReader in, ServerDetail target) throws IOException {
+            switch (name) {
+                case IdentifiableResource.SERIALIZED_NAME_ID:
+                    target.setId(nextLong(in));
+                    return true;
+                case ServerDetail.SERIALIZED_NAME_NAME:
+                    target.setName(nextString(in));
+                    return true;
+                case ServerDetail.SERIALIZED_NAME_STATUS:
+                    target.setStatus(nextString(in));
+                    return true;
+                case ServerDetail.SERIALIZED_NAME_CREATED:
+                    target.setCreated(nextString(in));
+                    return true;
+                case ServerDetail.SERIALIZED_NAME_LABELS:
+                    target.setLabels(nextLabels(in));
+                    return true;
+                case ServerDetail.SERIALIZED_NAME_DATACENTER:
+                    target.setDatacenter(datacenterAdapter.read(in));
+                    return true;
+                case ServerDetail.SERIALIZED_NAME_LOCATION:
+                    target.setLocation(locationAdapter.read(in));
+                    return true;
+                case ServerDetail.SERIALIZED_NAME_IMAGE:
+                    target.setImage(imageAdapter.read(in));
+                    return true;
+                case ServerDetail.SERIALIZED_NAME_PLACEMENT_GROUP:
+                    target.setPlacementGroup(placementGroupAdapter.read(in));
+                    return true;
+                case ServerDetail.SERIALIZED_NAME_PRIVATE_NET:
+                    target.setPrivateNet(nextList(in, privateNetAdapter));
+                    return true;
+                case ServerDetail.SERIALIZED_NAME_PUBLIC_NET:
+                    target.setPublicNet(publicNetAdapter.read(in));
+                    return true;
+                case ServerDetail.SERIALIZED_NAME_SERVER_TYPE:
+                    target.setServerType(serverTypeAdapter.read(in));
+                    return true;
+                case ServerDetail.SERIALIZED_NAME_VOLUMES:
+                    target.setVolumes(nextLongList(in));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    static final class PrimaryIpDetailAdapter extends ModelAdapter<PrimaryIpDetail> {
+        private final TypeAdapter<DatacenterDetail> datacenterAdapter;
+        private final TypeAdapter<LocationDetail> locationAdapter;
+        private final TypeAdapter<Ipv4Detail> dnsPtrAdapter;
+
+        PrimaryIpDetailAdapter(Gson gson, TypeAdapter<PrimaryIpDetail> delegate) {
+            super(delegate);
+            this.datacenterAdapter = gson.getAdapter(DatacenterDetail.class);
+            this.locationAdapter = gson.getAdapter(LocationDetail.class);
+            this.dnsPtrAdapter = gson.getAdapter(Ipv4Detail.class);
+        }
+
+        @Override
+        PrimaryIpDetail newInstance() {
+            return new PrimaryIpDetail();
+        }
+
+        @Override
+        boolean isProjectable() {
+            return true;
+        }
+
+        @Override
+        boolean readField(String name, JsonReader in, PrimaryIpDetail target) throws IOException {
+            switch (name) {
+                case IdentifiableResource.SERIALIZED_NAME_ID:
+                    target.setId(nextLong(in));
+                    return true;
+                case PrimaryIpDetail.SERIALIZED_NAME_NAME:
+                    target.setName(nextString(in));
+                    return true;
+                case PrimaryIpDetail.SERIALIZED_NAME_IP:
+                    target.setIp(nextString(in));
+                    return true;
+                case PrimaryIpDetail.SERIALIZED_NAME_TYPE:
+                    target.setType(nextString(in));
+                    return true;
+                case PrimaryIpDetail.SERIALIZED_NAME_ASSIGNEE_ID:
+                    target.setAssigneeId(nextLong(in));
+                    return true;
+                case PrimaryIpDetail.SERIALIZED_NAME_ASSIGNEE_TYPE:
+                    target.setAssigneeType(nextString(in));
+                    return true;
+                case PrimaryIpDetail.SERIALIZED_NAME_BLOCKED:
+                    target.setBlocked(nextBoolean(in));
+                    return true;
+                case PrimaryIpDetail.SERIALIZED_NAME_LABELS:
+                    target.setLabels(nextLabels(in));
+                    return true;
+                case PrimaryIpDetail.SERIALIZED_NAME_DATACENTER:
+                    target.setDatacenter(datacenterAdapter.read(in));
+                    return true;
+                case PrimaryIpDetail.SERIALIZED_NAME_LOCATION:
+                    target.setLocation(locationAdapter.read(in));
+                    return true;
+                case PrimaryIpDetail.SERIALIZED_NAME_DNS_PTR:
+                    target.setDnsPtr(nextList(in, dnsPtrAdapter));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    static List<Long> nextLongList(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        final List<Long> list = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            list.add(nextLong(in));
+        }
+        in.endArray();
+        return list;
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.base.Preconditions;
+import com.google.common.net.HttpHeaders;
+import lombok.NonNull;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okio.Timeout;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Client which serves many Hetzner projects (tenants) using single OkHttp client,
+ * so all tenants share one connection pool, dispatcher and interceptor chain.
+ * <p>Token of tenant is obtained from its supplier on every request, so tokens can be rotated
+ * without rebuilding client. Each tenant has its own {@link RateLimitGovernor}.</p>
+ * <p>At most {@code maxConcurrentCalls} calls are in flight at once (until response headers are received).
+ * Calls waiting for admission are served using weighted fair queuing, so tenant with many calls can't
+ * starve the others: while tenants have calls waiting, each gets share of slots proportional to its weight.
+ * Both {@link retrofit2.Call#execute()} and {@link retrofit2.Call#enqueue(retrofit2.Callback)} are scheduled;
+ * asynchronous calls don't occupy dispatcher thread while waiting.</p>
+ * <p>Conditional requests and HTTP cache are not supported, as they would share responses between tenants.</p>
+ */
+public class MultiTenantClient {
+    private final OkHttpClient client;
+    private final ClientOptions options;
+    private final String endpoint;
+    private final FairScheduler scheduler;
+    private final ConcurrentHashMap<String, Tenant> tenants = new ConcurrentHashMap<>();
+
+    /**
+     * Create new client.
+     *
+     * @param options client options, shared by all tenants
+     * @param maxConcurrentCalls maximum number of calls in flight, across all tenants
+     */
+    public MultiTenantClient(ClientOptions options, int maxConcurrentCalls) {
+        Preconditions.checkArgument(!options.isConditionalRequests() && options.getCacheDirectory() == null,
+                "Conditional requests and HTTP cache are not supported by multi-tenant client");
+        this.scheduler = new FairScheduler(maxConcurrentCalls);
+        this.options = options;
+        this.endpoint = ClientFactory.endpoint(options);
+        final OkHttpClient.Builder builder = ClientFactory.clientBuilder(options);
+        builder.interceptors().addAll(ClientFactory.interceptors(new TenantAuthenticationInterceptor(),
+                Collections.singletonList(new RateLimitInterceptor(request -> tenant(request).governor)),
+                options, null));
+        this.client = builder.build();
+    }
+
+    /**
+     * Register new tenant.
+     *
+     * @param tenantId tenant identifier
+     * @param tokenProvider supplier of API token, called for every request
+     * @param weight share of tenant relative to other tenants, must be positive
+     * @return API of tenant
+     * @throws IllegalArgumentException when tenant is already registered
+     */
+    public HetznerApi register(String tenantId, Supplier<String> tokenProvider, int weight) {
+        final Tenant tenant = new Tenant(tenantId, tokenProvider, weight);
+        Preconditions.checkArgument(tenants.putIfAbsent(tenantId, tenant) == null,
+                "Tenant %s is already registered", tenantId);
+        return tenant.api;
+    }
+
+    /**
+     * Remove tenant. Calls already made by tenant are completed.
+     *
+     * @param tenantId tenant identifier
+     * @return true if tenant was registered
+     */
+    public boolean unregister(String tenantId) {
+        return tenants.remove(tenantId) != null;
+    }
+
+    /**
+     * Get API of tenant.
+     *
+     * @param tenantId tenant identifier
+     * @return API of tenant
+     * @throws IllegalArgumentException when tenant is not registered
+     */
+    public HetznerApi getApi(String tenantId) {
+        return get(tenantId).api;
+    }
+
+    /**
+     * Replace token supplier of tenant. Attempts made from now on use new token, including retries of requests already in flight.
+     *
+     * @param tenantId tenant identifier
+     * @param tokenProvider supplier of API token
+     */
+    public void rotateToken(String tenantId, Supplier<String> tokenProvider) {
+        get(tenantId).tokenProvider = Preconditions.checkNotNull(tokenProvider);
+    }
+
+    /**
+     * Change weight of tenant.
+     *
+     * @param tenantId tenant identifier
+     * @param weight share of tenant relative to other tenants, must be positive
+     */
+    public void setWeight(String tenantId, int weight) {
+        get(tenantId).share.setWeight(weight);
+    }
+
+    /**
+     * Get rate limit governor of tenant, which can be used to pace batch operations.
+     *
+     * @param tenantId tenant identifier
+     * @return rate limit governor
+     */
+    public RateLimitGovernor getRateLimitGovernor(String tenantId) {
+        return get(tenantId).governor;
+    }
+
+    /**
+     * Get number of calls of tenant waiting for admission.
+     *
+     * @param tenantId tenant identifier
+     * @return number of waiting calls
+     */
+    public int getWaitingCalls(String tenantId) {
+        return scheduler.getWaiting(get(tenantId).share);
+    }
+
+    private Tenant get(String tenantId) {
+        final Tenant tenant = tenants.get(tenantId);
+        Preconditions.checkArgument(tenant != null, "Unknown tenant %s", tenantId);
+        return tenant;
+    }
+
+    private static Tenant tenant(Request request) {
+        final Tenant tenant = request.tag(Tenant.class);
+        Preconditions.checkState(tenant != null, "Request is not tagged by tenant");
+        return tenant;
+    }
+
+    private final class Tenant {
+        private final String id;
+        private final FairScheduler.Tenant share;
+        private final RateLimitGovernor governor = new RateLimitGovernor();
+        private final HetznerApi api;
+        private volatile Supplier<String> tokenProvider;
+
+        Tenant(String id, Supplier<String> tokenProvider, int weight) {
+            this.id = Preconditions.checkNotNull(id);
+            this.tokenProvider = Preconditions.checkNotNull(tokenProvider);
+            this.share = new FairScheduler.Tenant(weight);
+            this.api = ClientFactory.retrofitBuilder(endpoint, options)
+                    .callFactory(request -> new ScheduledCall(this,
+                            client.newCall(request.newBuilder().tag(Tenant.class, this).build())))
+                    .build()
+                    .create(HetznerApi.class);
+        }
+    }
+
+    private static class TenantAuthenticationInterceptor implements Interceptor {
+        @Override
+        @NonNull
+        public Response intercept(Chain chain) throws IOException {
+            final Request request = chain.request();
+            return chain.proceed(request.newBuilder()
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + tenant(request).tokenProvider.get())
+                    .build());
+        }
+    }
+
+    /**
+     * {@link Call} which waits for admission by scheduler before it's executed.
+     */
+    private final class ScheduledCall implements Call {
+        private final Tenant tenant;
+        private final Call delegate;
+
+        ScheduledCall(Tenant tenant, Call delegate) {
+            this.tenant = tenant;
+            this.delegate = delegate;
+        }
+
+        @Override
+        @NonNull
+        public Request request() {
+            return delegate.request();
+        }
+
+        @Override
+        @NonNull
+        public Response execute() throws IOException {
+            try {
+                scheduler.acquire(tenant.share);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for admission of " + tenant.id);
+            }
+            try {
+                return delegate.execute();
+            } finally {
+                scheduler.release();
+            }
+        }
+
+        @Override
+        public void enqueue(@NonNull Callback callback) {
+            scheduler.acquire(tenant.share, () -> delegate.enqueue(new Callback() {
+                @Override
+                public void onFailure(@NonNull Call call, @NonNull IOException e) {
+                    scheduler.release();
+                    callback.onFailure(ScheduledCall.this, e);
+                }
+
+                @Override
+                public void onResponse(@NonNull Call call, @NonNull Response response) throws IOException {
+                    scheduler.release();
+                    callback.onResponse(ScheduledCall.this, response);
+                }
+            }));
+        }
+
+        @Override
+        public void cancel() {
+            delegate.cancel();
+        }
+
+        @Override
+        public boolean isExecuted() {
+            return delegate.isExecuted();
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return delegate.isCanceled();
+        }
+
+        @Override
+        @NonNull
+        public Timeout timeout() {
+            return delegate.timeout();
+        }
+
+        @Override
+        @NonNull
+        public Call clone() {
+            return new ScheduledCall(tenant, delegate.clone());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import lombok.experimental.UtilityClass;
+import okhttp3.Request;
+import retrofit2.Invocation;
+import retrofit2.http.DELETE;
+import retrofit2.http.GET;
+import retrofit2.http.PATCH;
+import retrofit2.http.POST;
+import retrofit2.http.PUT;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Names of operations reported to {@link ClientMetrics}.
+ */
+@UtilityClass
+class Operations {
+    private static final ConcurrentHashMap<Method, String> NAMES = new ConcurrentHashMap<>();
+
+    /**
+     * Get name of operation which produced request.
+     * Requests made by Retrofit are named after HTTP annotation of API method, name is computed only once.
+     *
+     * @param request request
+     * @return operation name, such as {@code GET /v1/servers/{id}}
+     */
+    static String of(Request request) {
+        final Invocation invocation = request.tag(Invocation.class);
+        if (invocation == null) {
+            return request.method() + " " + request.url().encodedPath();
+        }
+        final String name = NAMES.get(invocation.method());
+        return name != null ? name : NAMES.computeIfAbsent(invocation.method(), Operations::name);
+    }
+
+    private static String name(Method method) {
+        for (Annotation annotation : method.getAnnotations()) {
+            final String path;
+            if (annotation instanceof GET) {
+                path = ((GET) annotation).value();
+            } else if (annotation instanceof POST) {
+                path = ((POST) annotation).value();
+            } else if (annotation instanceof PUT) {
+                path = ((PUT) annotation).value();
+            } else if (annotation instanceof DELETE) {
+                path = ((DELETE) annotation).value();
+            } else if (annotation instanceof PATCH) {
+                path = ((PATCH) annotation).value();
+            } else {
+                continue;
+            }
+            // fixed query parameters are not part of operation
+            final int query = path.indexOf('?');
+            return annotation.annotationType().getSimpleName() + " " + (query < 0 ? path : path.substring(0, query));
+        }
+        return method.getName();
+    }
+}
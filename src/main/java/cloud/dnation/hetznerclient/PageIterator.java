@@ -0,0 +1,129 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import retrofit2.Call;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * {@link Iterator} over items of paginated REST endpoint, which requests next page only once
+ * all items of current page were consumed.
+ * Optionally, next page can be requested in background while current page is being consumed.
+ *
+ * @param <T> item type
+ * @param <X> REST endpoint response type
+ */
+class PageIterator<T, X extends AbstractSearchResponse> implements Iterator<T>, Closeable {
+    private final String labelSelector;
+    private final BiFunction<Integer, String, Call<X>> pageSupplier;
+    private final Function<X, List<T>> itemsGetter;
+    private final Executor readAheadExecutor;
+    private Iterator<T> current = Collections.emptyIterator();
+    private int nextIndex;
+    private boolean lastPage;
+    private Call<X> pendingCall;
+    private CompletableFuture<X> pendingPage;
+
+    /**
+     * Create new iterator.
+     *
+     * @param labelSelector label selector to restrict items only to those that match selector
+     * @param pageSupplier {@link BiFunction} that takes page index (zero based) and selector and produces call
+     * @param itemsGetter {@link Function} that takes response from pageSupplier and extracts list of items
+     * @param readAheadExecutor executor used to request next page in advance, or null to disable read-ahead
+     */
+    PageIterator(String labelSelector, BiFunction<Integer, String, Call<X>> pageSupplier,
+                 Function<X, List<T>> itemsGetter, Executor readAheadExecutor) {
+        this.labelSelector = labelSelector;
+        this.pageSupplier = pageSupplier;
+        this.itemsGetter = itemsGetter;
+        this.readAheadExecutor = readAheadExecutor;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (lastPage) {
+                return false;
+            }
+            try {
+                loadNextPage();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Stop iteration and cancel page requested in advance, if any.
+     */
+    @Override
+    public void close() {
+        lastPage = true;
+        current = Collections.emptyIterator();
+        if (pendingCall != null) {
+            pendingCall.cancel();
+            pendingPage.cancel(false);
+            pendingCall = null;
+            pendingPage = null;
+        }
+    }
+
+    private void loadNextPage() throws IOException {
+        final X body;
+        if (pendingPage != null) {
+            body = PagedResourceHelper.join(pendingPage);
+            pendingCall = null;
+            pendingPage = null;
+        } else {
+            body = PagedResourceHelper.fetchPage(pageSupplier.apply(nextIndex, labelSelector));
+        }
+        nextIndex++;
+        lastPage = PagedResourceHelper.getPagination(body).getNextPage() == null;
+        current = itemsGetter.apply(body).iterator();
+        if (!lastPage && readAheadExecutor != null) {
+            final Call<X> call = pageSupplier.apply(nextIndex, labelSelector);
+            pendingCall = call;
+            pendingPage = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return PagedResourceHelper.fetchPage(call);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, readAheadExecutor);
+        }
+    }
+}
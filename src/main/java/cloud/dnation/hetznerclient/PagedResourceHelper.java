@@ -16,19 +16,39 @@
 package cloud.dnation.hetznerclient;
 
 import com.google.common.base.Preconditions;
+import com.google.common.primitives.Ints;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.experimental.UtilityClass;
 import retrofit2.Call;
 import retrofit2.Response;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @UtilityClass
 public class PagedResourceHelper {
+    private static final Executor DEFAULT_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+            .setNameFormat("hetzner-paging-%d")
+            .setDaemon(true)
+            .build());
+
     /**
      * Consume all items from paginated REST endpoint.
      *
@@ -42,32 +62,314 @@ public class PagedResourceHelper {
     public static <T extends IdentifiableResource, X extends AbstractSearchResponse> List<T> fetchItems(
             String labelSelector,
             BiFunction<Integer, String, Call<X>> pageSupplier, Function<X, List<T>> itemsGetter) throws IOException {
-        final List<T> result = new ArrayList<>();
-        for (int i = 0; ; i++) {
-            final Response<X> page = pageSupplier.apply(i, labelSelector).execute();
-            assertValidResponse(page);
-            final X body = page.body();
-            Objects.requireNonNull(body, "Missing response body");
-            final Meta meta = body.getMeta();
-            result.addAll(itemsGetter.apply(body));
-            Objects.requireNonNull(meta, "Missing meta response object");
-            Objects.requireNonNull(meta.getPagination(), "Missing pagination inside meta response object");
-            if (meta.getPagination().getNextPage() == null) {
-                // last page
-                break;
+        return fetchItems(labelSelector, pageSupplier, itemsGetter, PagingOptions.DEFAULT);
+    }
+
+    /**
+     * Consume all items from paginated REST endpoint.
+     * <p>First page is fetched synchronously, number of pages is then taken from its {@link Pagination}
+     * and remaining pages are requested concurrently using {@link PagingOptions#getExecutor()},
+     * with at most {@link PagingOptions#getParallelism()} requests in flight.
+     * If number of pages can't be determined, remaining pages are fetched one after another.</p>
+     *
+     * @param labelSelector label selector to restrict items only to those that match selector
+     * @param pageSupplier {@link BiFunction} that takes page index (zero based) and selector and produces {@link Response}
+     * @param itemsGetter {@link Function} that takes response from pageSupplier and extracts list of items
+     * @param options paging options
+     * @return all items combined to single list, in page order
+     * @param <T> item type
+     * @param <X> REST endpoint response type
+     */
+    public static <T extends IdentifiableResource, X extends AbstractSearchResponse> List<T> fetchItems(
+            String labelSelector,
+            BiFunction<Integer, String, Call<X>> pageSupplier, Function<X, List<T>> itemsGetter,
+            PagingOptions options) throws IOException {
+        pageSupplier = projected(pageSupplier, options);
+        final Call<X> firstPage = pageSupplier.apply(0, labelSelector);
+        X body = fetchPage(firstPage);
+        final List<T> result = new ArrayList<>(itemsGetter.apply(body));
+        int nextIndex = 1;
+        final Integer pageCount = pageCount(getPagination(body));
+        if (pageCount != null && pageCount > nextIndex && options.getParallelism() > 1
+                && getPagination(body).getNextPage() != null) {
+            final List<X> pages = fetchPagesConcurrently(labelSelector, pageSupplier, nextIndex, pageCount, options);
+            for (X page : pages) {
+                result.addAll(itemsGetter.apply(page));
+                body = page;
             }
+            nextIndex = pageCount;
+        }
+        // pages not covered by page count (if any) are consumed one after another
+        for (int i = nextIndex; getPagination(body).getNextPage() != null; i++) {
+            body = fetchPage(pageSupplier.apply(i, labelSelector));
+            result.addAll(itemsGetter.apply(body));
+            nextIndex = i + 1;
+        }
+        if (options.getMetrics() != ClientMetrics.NOOP) {
+            options.getMetrics().recordPages(Operations.of(firstPage.request()), nextIndex);
         }
         return result;
     }
 
+    /**
+     * Lazily iterate over items from paginated REST endpoint.
+     * Page is requested only once all items of previous page were consumed.
+     * Failure to fetch page is reported as {@link UncheckedIOException}.
+     *
+     * @param labelSelector label selector to restrict items only to those that match selector
+     * @param pageSupplier {@link BiFunction} that takes page index (zero based) and selector and produces {@link Response}
+     * @param itemsGetter {@link Function} that takes response from pageSupplier and extracts list of items
+     * @param options paging options, only {@link PagingOptions#isReadAhead()},
+     *                {@link PagingOptions#getExecutor()} and {@link PagingOptions#getProjection()}
+     *                are taken into account
+     * @return iterator over all items
+     * @param <T> item type
+     * @param <X> REST endpoint response type
+     */
+    public static <T extends IdentifiableResource, X extends AbstractSearchResponse> Iterator<T> iterateItems(
+            String labelSelector,
+            BiFunction<Integer, String, Call<X>> pageSupplier, Function<X, List<T>> itemsGetter,
+            PagingOptions options) {
+        return new PageIterator<>(labelSelector, projected(pageSupplier, options), itemsGetter,
+                readAheadExecutor(options));
+    }
+
+    /**
+     * Lazily stream items from paginated REST endpoint.
+     * Page is requested only once all items of previous page were consumed, so short-circuiting
+     * operations such as {@link Stream#findFirst()} don't cause any further requests.
+     * Closing the stream cancels page requested in advance, if any.
+     * Failure to fetch page is reported as {@link UncheckedIOException}.
+     *
+     * @param labelSelector label selector to restrict items only to those that match selector
+     * @param pageSupplier {@link BiFunction} that takes page index (zero based) and selector and produces {@link Response}
+     * @param itemsGetter {@link Function} that takes response from pageSupplier and extracts list of items
+     * @param options paging options, only {@link PagingOptions#isReadAhead()},
+     *                {@link PagingOptions#getExecutor()} and {@link PagingOptions#getProjection()}
+     *                are taken into account
+     * @return sequential stream of all items
+     * @param <T> item type
+     * @param <X> REST endpoint response type
+     */
+    public static <T extends IdentifiableResource, X extends AbstractSearchResponse> Stream<T> streamItems(
+            String labelSelector,
+            BiFunction<Integer, String, Call<X>> pageSupplier, Function<X, List<T>> itemsGetter,
+            PagingOptions options) {
+        final PageIterator<T, X> iterator = new PageIterator<>(labelSelector, projected(pageSupplier, options),
+                itemsGetter, readAheadExecutor(options));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(iterator::close);
+    }
+
     public static List<PrimaryIpDetail> getAllPrimaryIps(HetznerApi api, String labelSelector) throws IOException {
+        return getAllPrimaryIps(api, labelSelector, PagingOptions.DEFAULT);
+    }
+
+    public static List<PrimaryIpDetail> getAllPrimaryIps(HetznerApi api, String labelSelector,
+                                                         PagingOptions options) throws IOException {
         return fetchItems(labelSelector, (pageId, sel) ->
-                api.getPrimaryIpsBySelector(sel, pageId, 25), GetAllPrimaryIpsResponse::getPrimaryIps);
+                        api.getPrimaryIpsBySelector(sel, pageId, options.getPerPage()),
+                GetAllPrimaryIpsResponse::getPrimaryIps, options);
     }
 
     public static List<ServerDetail> getAllServers(HetznerApi api, String labelSelector) throws IOException {
+        return getAllServers(api, labelSelector, PagingOptions.DEFAULT);
+    }
+
+    public static List<ServerDetail> getAllServers(HetznerApi api, String labelSelector,
+                                                   PagingOptions options) throws IOException {
+        return fetchItems(labelSelector, (pageId, sel) ->
+                        api.getServersBySelector(sel, pageId, options.getPerPage()),
+                GetServersBySelectorResponse::getServers, options);
+    }
+
+    public static Stream<PrimaryIpDetail> streamPrimaryIps(HetznerApi api, String labelSelector,
+                                                           PagingOptions options) {
+        return streamItems(labelSelector, (pageId, sel) ->
+                        api.getPrimaryIpsBySelector(sel, pageId, options.getPerPage()),
+                GetAllPrimaryIpsResponse::getPrimaryIps, options);
+    }
+
+    public static Stream<ServerDetail> streamServers(HetznerApi api, String labelSelector,
+                                                     PagingOptions options) {
+        return streamItems(labelSelector, (pageId, sel) ->
+                        api.getServersBySelector(sel, pageId, options.getPerPage()),
+                GetServersBySelectorResponse::getServers, options);
+    }
+
+    public static List<VolumeDetail> getAllVolumes(HetznerApi api, String labelSelector,
+                                                   PagingOptions options) throws IOException {
         return fetchItems(labelSelector, (pageId, sel) ->
-                api.getServersBySelector(sel, pageId, 25), GetServersBySelectorResponse::getServers);
+                        api.getVolumes(sel, pageId, options.getPerPage()),
+                GetVolumesResponse::getVolumes, options);
+    }
+
+    public static Stream<VolumeDetail> streamVolumes(HetznerApi api, String labelSelector,
+                                                     PagingOptions options) {
+        return streamItems(labelSelector, (pageId, sel) ->
+                        api.getVolumes(sel, pageId, options.getPerPage()),
+                GetVolumesResponse::getVolumes, options);
+    }
+
+    public static List<NetworkDetail> getAllNetworks(HetznerApi api, String labelSelector,
+                                                     PagingOptions options) throws IOException {
+        return fetchItems(labelSelector, (pageId, sel) ->
+                        api.getNetworksBySelector(sel, pageId, options.getPerPage()),
+                GetNetworksBySelectorResponse::getNetworks, options);
+    }
+
+    public static Stream<NetworkDetail> streamNetworks(HetznerApi api, String labelSelector,
+                                                       PagingOptions options) {
+        return streamItems(labelSelector, (pageId, sel) ->
+                        api.getNetworksBySelector(sel, pageId, options.getPerPage()),
+                GetNetworksBySelectorResponse::getNetworks, options);
+    }
+
+    public static List<FirewallDetail> getAllFirewalls(HetznerApi api, String labelSelector,
+                                                       PagingOptions options) throws IOException {
+        return fetchItems(labelSelector, (pageId, sel) ->
+                        api.getFirewallsBySelector(sel, pageId, options.getPerPage()),
+                GetFirewallsBySelectorResponse::getFirewalls, options);
+    }
+
+    public static Stream<FirewallDetail> streamFirewalls(HetznerApi api, String labelSelector,
+                                                         PagingOptions options) {
+        return streamItems(labelSelector, (pageId, sel) ->
+                        api.getFirewallsBySelector(sel, pageId, options.getPerPage()),
+                GetFirewallsBySelectorResponse::getFirewalls, options);
+    }
+
+    public static List<SshKeyDetail> getAllSshKeys(HetznerApi api, String labelSelector,
+                                                    PagingOptions options) throws IOException {
+        return fetchItems(labelSelector, (pageId, sel) ->
+                        api.getSshKeysBySelector(sel, pageId, options.getPerPage()),
+                GetSshKeysBySelectorResponse::getSshKeys, options);
+    }
+
+    public static Stream<SshKeyDetail> streamSshKeys(HetznerApi api, String labelSelector,
+                                                     PagingOptions options) {
+        return streamItems(labelSelector, (pageId, sel) ->
+                        api.getSshKeysBySelector(sel, pageId, options.getPerPage()),
+                GetSshKeysBySelectorResponse::getSshKeys, options);
+    }
+
+    private static <X> BiFunction<Integer, String, Call<X>> projected(
+            BiFunction<Integer, String, Call<X>> pageSupplier, PagingOptions options) {
+        final Projection projection = options.getProjection();
+        if (projection == null) {
+            return pageSupplier;
+        }
+        return (pageId, sel) -> new ProjectedCall<>(pageSupplier.apply(pageId, sel), projection);
+    }
+
+    private static Executor readAheadExecutor(PagingOptions options) {
+        if (!options.isReadAhead()) {
+            return null;
+        }
+        return executor(options);
+    }
+
+    private static Executor executor(PagingOptions options) {
+        return VirtualThreads.select(options.getExecutor(), options.isVirtualThreads(), DEFAULT_EXECUTOR);
+    }
+
+    private static <X extends AbstractSearchResponse> List<X> fetchPagesConcurrently(
+            String labelSelector, BiFunction<Integer, String, Call<X>> pageSupplier,
+            int fromIndex, int toIndex, PagingOptions options) throws IOException {
+        final Executor executor = executor(options);
+        final Semaphore permits = new Semaphore(options.getParallelism());
+        final List<Call<X>> calls = new ArrayList<>(toIndex - fromIndex);
+        final List<CompletableFuture<X>> futures = new ArrayList<>(toIndex - fromIndex);
+        final AtomicBoolean failed = new AtomicBoolean();
+        try {
+            for (int i = fromIndex; i < toIndex; i++) {
+                permits.acquire();
+                if (failed.get()) {
+                    // no point in requesting more pages, error will be reported below
+                    permits.release();
+                    break;
+                }
+                final Call<X> call = pageSupplier.apply(i, labelSelector);
+                calls.add(call);
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return fetchPage(call);
+                    } catch (IOException e) {
+                        failed.set(true);
+                        throw new UncheckedIOException(e);
+                    } catch (RuntimeException e) {
+                        failed.set(true);
+                        throw e;
+                    } finally {
+                        permits.release();
+                    }
+                }, executor));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // blocking calls don't respond to interrupts, so in-flight requests must be cancelled
+            calls.forEach(Call::cancel);
+            futures.forEach(f -> f.cancel(true));
+            throw new InterruptedIOException("Interrupted while fetching pages");
+        }
+        final List<X> result = new ArrayList<>(futures.size());
+        for (CompletableFuture<X> future : futures) {
+            result.add(join(future));
+        }
+        return result;
+    }
+
+    static <X> X join(CompletableFuture<X> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    static <X extends AbstractSearchResponse> X fetchPage(Call<X> call) throws IOException {
+        final Response<X> page = call.execute();
+        assertValidResponse(page);
+        final X body = page.body();
+        Objects.requireNonNull(body, "Missing response body");
+        getPagination(body);
+        return body;
+    }
+
+    static Pagination getPagination(AbstractSearchResponse body) {
+        final Meta meta = body.getMeta();
+        Objects.requireNonNull(meta, "Missing meta response object");
+        Objects.requireNonNull(meta.getPagination(), "Missing pagination inside meta response object");
+        return meta.getPagination();
+    }
+
+    /**
+     * Get total number of pages from pagination object.
+     *
+     * @param pagination pagination from first page
+     * @return number of pages or null if it can't be determined
+     */
+    static Integer pageCount(Pagination pagination) {
+        final Integer lastPage = parseInt(pagination.getLastPage());
+        if (lastPage != null) {
+            return lastPage;
+        }
+        final Integer totalEntries = parseInt(pagination.getTotalEntries());
+        final Integer perPage = parseInt(pagination.getPerPage());
+        if (totalEntries != null && perPage != null && perPage > 0) {
+            return (totalEntries + perPage - 1) / perPage;
+        }
+        return null;
+    }
+
+    private static Integer parseInt(String value) {
+        return value == null ? null : Ints.tryParse(value);
     }
 
     private static <X extends AbstractSearchResponse> void assertValidResponse(Response<X> response) {
@@ -0,0 +1,74 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Options that control how {@link PagedResourceHelper} walks paginated REST endpoints.
+ */
+@Value
+@Builder(toBuilder = true)
+public class PagingOptions {
+    /**
+     * Options used by helper methods that don't take {@link PagingOptions} explicitly.
+     */
+    public static final PagingOptions DEFAULT = PagingOptions.builder().build();
+
+    /**
+     * Number of items requested per page. API imposes limit on top of this value.
+     */
+    @Builder.Default
+    int perPage = 25;
+
+    /**
+     * Maximum number of pages requested concurrently once first page is known.
+     * Value of 1, which is default, means that pages are fetched one after another.
+     */
+    @Builder.Default
+    int parallelism = 1;
+
+    /**
+     * Executor used to fetch remaining pages or to read ahead. When not set, shared pool of daemon threads is used.
+     */
+    Executor executor;
+
+    /**
+     * Fetch remaining pages or read ahead on virtual threads, unless {@link #executor} is set.
+     * Requires JDK 21 or newer, shared pool of daemon threads is used on older runtimes.
+     */
+    boolean virtualThreads;
+
+    /**
+     * When streaming items, request next page while current page is being consumed.
+     */
+    boolean readAhead;
+
+    /**
+     * Fields of items to deserialize, when not set all fields are deserialized.
+     * Applies to {@link ServerDetail} and {@link PrimaryIpDetail} fetched by {@link PagedResourceHelper}.
+     */
+    Projection projection;
+
+    /**
+     * Sink of number of pages fetched by {@link PagedResourceHelper#fetchItems}.
+     */
+    @Builder.Default
+    ClientMetrics metrics = ClientMetrics.NOOP;
+}
@@ -0,0 +1,95 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import lombok.NonNull;
+import okhttp3.Request;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.io.IOException;
+
+/**
+ * {@link Call} which deserializes response body of {@link #execute()} using {@link Projection}.
+ * <p>Response of {@link #enqueue(Callback)} is parsed on dispatcher thread, so projection doesn't apply to it.</p>
+ *
+ * @param <T> response body type
+ */
+class ProjectedCall<T> implements Call<T> {
+    private final Call<T> delegate;
+    private final Projection projection;
+
+    ProjectedCall(Call<T> delegate, Projection projection) {
+        this.delegate = delegate;
+        this.projection = projection;
+    }
+
+    @Override
+    @NonNull
+    public Response<T> execute() throws IOException {
+        final Projection previous = Projection.CURRENT.get();
+        Projection.CURRENT.set(projection);
+        try {
+            return delegate.execute();
+        } finally {
+            if (previous == null) {
+                Projection.CURRENT.remove();
+            } else {
+                Projection.CURRENT.set(previous);
+            }
+        }
+    }
+
+    @Override
+    public void enqueue(@NonNull Callback<T> callback) {
+        delegate.enqueue(callback);
+    }
+
+    @Override
+    public boolean isExecuted() {
+        return delegate.isExecuted();
+    }
+
+    @Override
+    public void cancel() {
+        delegate.cancel();
+    }
+
+    @Override
+    public boolean isCanceled() {
+        return delegate.isCanceled();
+    }
+
+    @Override
+    @NonNull
+    public Call<T> clone() {
+        return new ProjectedCall<>(delegate.clone(), projection);
+    }
+
+    @Override
+    @NonNull
+    public Request request() {
+        return delegate.request();
+    }
+
+    @Override
+    @NonNull
+    public Timeout timeout() {
+        return delegate.timeout();
+    }
+}
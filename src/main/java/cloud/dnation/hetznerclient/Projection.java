@@ -0,0 +1,85 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.collect.ImmutableSet;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.Set;
+
+/**
+ * Subset of fields of list item (such as {@link ServerDetail} or {@link PrimaryIpDetail}) to deserialize.
+ * Fields outside of projection are skipped while parsing response, so nested objects they hold are never built
+ * and corresponding properties of deserialized item are left {@code null}. Field {@code id} is always included.
+ * <p>Example:</p>
+ * <pre>
+ *     PagingOptions options = PagingOptions.builder()
+ *             .projection(Projection.of("name", "status", "labels"))
+ *             .build();
+ *     List&lt;ServerDetail&gt; servers = PagedResourceHelper.getAllServers(api, selector, options);
+ * </pre>
+ */
+@EqualsAndHashCode
+@ToString
+public final class Projection {
+    /**
+     * Projection in effect for response being parsed on current thread.
+     */
+    static final ThreadLocal<Projection> CURRENT = new ThreadLocal<>();
+
+    private final ImmutableSet<String> fields;
+
+    private Projection(ImmutableSet<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Create projection of given fields.
+     *
+     * @param fields JSON names of fields to deserialize, for example {@code name} or {@code public_net}
+     * @return projection
+     */
+    public static Projection of(String... fields) {
+        return new Projection(ImmutableSet.<String>builder()
+                .add(IdentifiableResource.SERIALIZED_NAME_ID)
+                .add(fields)
+                .build());
+    }
+
+    /**
+     * Get JSON names of fields to deserialize.
+     *
+     * @return field names, including {@code id}
+     */
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * Check whether given field is part of projection.
+     *
+     * @param field JSON name of field
+     * @return true if field should be deserialized
+     */
+    public boolean includes(String field) {
+        return fields.contains(field);
+    }
+
+    static Projection current() {
+        return CURRENT.get();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * Options that control how {@link BulkProvisioner} processes batch of servers.
+ */
+@Value
+@Builder(toBuilder = true)
+public class ProvisioningOptions {
+    /**
+     * Default options.
+     */
+    public static final ProvisioningOptions DEFAULT = ProvisioningOptions.builder().build();
+
+    /**
+     * Maximum number of servers being provisioned concurrently.
+     */
+    @Builder.Default
+    int concurrency = 10;
+
+    /**
+     * Maximum time to wait for server to become {@code running}, measured from its creation.
+     */
+    @Builder.Default
+    Duration readyTimeout = Duration.ofMinutes(5);
+
+    /**
+     * Interval of polling server status once all its actions finished.
+     */
+    @Builder.Default
+    Duration statusPollInterval = Duration.ofSeconds(2);
+
+    /**
+     * Which servers to delete when batch doesn't fully succeed.
+     */
+    @Builder.Default
+    RollbackPolicy rollbackPolicy = RollbackPolicy.NONE;
+
+    /**
+     * Governor of API token used by provisioner. When set, provisioning of next server starts only
+     * once rate limit budget allows for its requests. See {@link RateLimitGovernor#forToken(String)}.
+     */
+    RateLimitGovernor governor;
+
+    /**
+     * Executor used to run provisioning pipelines. When not set, shared pool of daemon threads is used.
+     */
+    Executor executor;
+
+    /**
+     * Run provisioning pipelines on virtual threads, unless {@link #executor} is set.
+     * Requires JDK 21 or newer, shared pool of daemon threads is used on older runtimes.
+     */
+    boolean virtualThreads;
+}
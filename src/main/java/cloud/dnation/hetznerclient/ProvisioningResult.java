@@ -0,0 +1,66 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Outcome of provisioning of single server by {@link BulkProvisioner}.
+ */
+@Value
+@Builder(toBuilder = true)
+public class ProvisioningResult {
+    public enum Status {
+        /**
+         * Server was created and is running.
+         */
+        SUCCEEDED,
+        /**
+         * Server wasn't created or didn't become ready, see {@link #getError()}.
+         */
+        FAILED,
+        /**
+         * Server was deleted according to {@link RollbackPolicy}.
+         */
+        ROLLED_BACK,
+        /**
+         * Server should have been deleted according to {@link RollbackPolicy}, but deletion failed.
+         */
+        ROLLBACK_FAILED
+    }
+
+    /**
+     * Request used to create server.
+     */
+    CreateServerRequest request;
+
+    /**
+     * Last known state of server, null if server wasn't created.
+     */
+    ServerDetail server;
+
+    Status status;
+
+    /**
+     * Cause of failure or of rollback failure, null if there is none.
+     */
+    Throwable error;
+
+    public boolean isSucceeded() {
+        return status == Status.SUCCEEDED;
+    }
+}
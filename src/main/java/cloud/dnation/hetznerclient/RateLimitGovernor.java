@@ -0,0 +1,227 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.hash.Hashing;
+import com.google.common.primitives.Longs;
+import okhttp3.Response;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side token bucket that mirrors rate limit of Hetzner API token.
+ * <p>State of bucket is learned from {@code RateLimit-Limit}, {@code RateLimit-Remaining}
+ * and {@code RateLimit-Reset} response headers. Requests are delayed once local bucket is exhausted,
+ * so outgoing traffic is smoothed to refill rate instead of running into HTTP 429.</p>
+ * <p>Single instance is shared by all clients that use same API token, see {@link #forToken(String)}.
+ * Batch jobs can use {@link #getRemaining()} and {@link #getWaitMillis(int)} to pace themselves.</p>
+ *
+ * @see <a href="https://docs.hetzner.cloud/#rate-limiting">Rate limiting</a>
+ */
+public class RateLimitGovernor {
+    static final String HEADER_LIMIT = "RateLimit-Limit";
+    static final String HEADER_REMAINING = "RateLimit-Remaining";
+    static final String HEADER_RESET = "RateLimit-Reset";
+
+    /**
+     * Default limit of Hetzner API, used until first response is received.
+     */
+    private static final long DEFAULT_LIMIT = 3600;
+    /**
+     * Default refill rate of Hetzner API, one request per second.
+     */
+    private static final double DEFAULT_REFILL_PER_NANO = 1.0 / TimeUnit.SECONDS.toNanos(1);
+    /**
+     * Governors keyed by hash of token, kept only as long as some client references them.
+     */
+    private static final LoadingCache<String, RateLimitGovernor> GOVERNORS = CacheBuilder.newBuilder()
+            .weakValues()
+            .build(CacheLoader.from(key -> new RateLimitGovernor()));
+
+    private final Ticker ticker;
+    private final LongSupplier wallClock;
+    private long limit = DEFAULT_LIMIT;
+    private double tokens = DEFAULT_LIMIT;
+    private double refillPerNano = DEFAULT_REFILL_PER_NANO;
+    private long lastRefill;
+    private int inFlight;
+
+    RateLimitGovernor(Ticker ticker, LongSupplier wallClock) {
+        this.ticker = ticker;
+        this.wallClock = wallClock;
+        this.lastRefill = ticker.read();
+    }
+
+    RateLimitGovernor() {
+        this(Ticker.systemTicker(), System::currentTimeMillis);
+    }
+
+    /**
+     * Get governor shared by all clients using given API token.
+     *
+     * @param apiToken Hetzner API token
+     * @return shared {@link RateLimitGovernor}
+     */
+    public static RateLimitGovernor forToken(String apiToken) {
+        // don't keep tokens in memory longer than necessary
+        final String key = Hashing.sha256().hashString(apiToken, StandardCharsets.UTF_8).toString();
+        return GOVERNORS.getUnchecked(key);
+    }
+
+    /**
+     * Take single permit from bucket, waiting until it's available.
+     *
+     * @throws InterruptedException when interrupted while waiting, permit is put back
+     */
+    public void acquire() throws InterruptedException {
+        final long waitNanos;
+        synchronized (this) {
+            inFlight++;
+            waitNanos = take(1);
+        }
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                refund();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Wait until given number of permits is available, queueing up behind other waiters.
+     * Permits are reserved while waiting and put back afterwards, so that requests made by caller
+     * still find them when they {@link #acquire()} their own permits.
+     *
+     * @param permits number of permits
+     * @throws InterruptedException when interrupted while waiting, permits are put back as well
+     */
+    void awaitPermits(int permits) throws InterruptedException {
+        final long waitNanos;
+        synchronized (this) {
+            waitNanos = take(permits);
+        }
+        try {
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        } finally {
+            synchronized (this) {
+                refill();
+                tokens = Math.min(limit, tokens + permits);
+            }
+        }
+    }
+
+    private long take(int permits) {
+        refill();
+        tokens -= permits;
+        // waiters queue up by taking permits in advance
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / refillPerNano);
+    }
+
+    /**
+     * Get number of requests that can be made right now without waiting.
+     *
+     * @return remaining budget, never negative
+     */
+    public synchronized long getRemaining() {
+        refill();
+        return Math.max(0, (long) Math.floor(tokens));
+    }
+
+    /**
+     * Get limit of API token, as last reported by API.
+     *
+     * @return maximal size of budget
+     */
+    public synchronized long getLimit() {
+        return limit;
+    }
+
+    /**
+     * Get estimated time to wait until given number of permits is available.
+     *
+     * @param permits number of permits
+     * @return estimated wait time in milliseconds, 0 if permits are available right now
+     */
+    public synchronized long getWaitMillis(int permits) {
+        refill();
+        final double missing = permits - tokens;
+        return missing <= 0 ? 0 : TimeUnit.NANOSECONDS.toMillis((long) Math.ceil(missing / refillPerNano));
+    }
+
+    /**
+     * Give back permit taken by {@link #acquire()} when request was rejected before reaching API.
+     */
+    synchronized void refund() {
+        inFlight = Math.max(0, inFlight - 1);
+        refill();
+        tokens = Math.min(limit, tokens + 1);
+    }
+
+    /**
+     * Release permit taken by {@link #acquire()} once request completed, learning bucket state from response.
+     *
+     * @param response response received from API or null if request failed
+     */
+    synchronized void release(Response response) {
+        inFlight = Math.max(0, inFlight - 1);
+        if (response == null) {
+            return;
+        }
+        refill();
+        final Long newLimit = parseHeader(response, HEADER_LIMIT);
+        final Long remaining = parseHeader(response, HEADER_REMAINING);
+        final Long reset = parseHeader(response, HEADER_RESET);
+        if (newLimit != null && newLimit > 0) {
+            limit = newLimit;
+        }
+        if (remaining != null) {
+            // requests that are still in flight were not accounted by API yet,
+            // permits reserved by waiting requests must not be given away
+            tokens = tokens < 0 ? Math.min(tokens, remaining - inFlight) : remaining - inFlight;
+            if (reset != null && remaining < limit) {
+                final long nanosToReset = TimeUnit.SECONDS.toNanos(reset)
+                        - TimeUnit.MILLISECONDS.toNanos(wallClock.getAsLong());
+                if (nanosToReset > 0) {
+                    refillPerNano = (limit - remaining) / (double) nanosToReset;
+                }
+            }
+        }
+        if (response.code() == 429) {
+            tokens = Math.min(tokens, 0);
+        }
+    }
+
+    private void refill() {
+        final long now = ticker.read();
+        tokens = Math.min(limit, tokens + (now - lastRefill) * refillPerNano);
+        lastRefill = now;
+    }
+
+    private static Long parseHeader(Response response, String name) {
+        final String value = response.header(name);
+        return value == null ? null : Longs.tryParse(value.trim());
+    }
+}
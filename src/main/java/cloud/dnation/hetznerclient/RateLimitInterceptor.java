@@ -0,0 +1,71 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import lombok.NonNull;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.function.Function;
+
+/**
+ * {@link Interceptor} which delays requests according to {@link RateLimitGovernor}
+ * and feeds it with rate limit headers of responses.
+ */
+class RateLimitInterceptor implements Interceptor {
+    private final Function<Request, RateLimitGovernor> governors;
+
+    RateLimitInterceptor(RateLimitGovernor governor) {
+        this(request -> governor);
+    }
+
+    /**
+     * Create interceptor which picks governor per request.
+     *
+     * @param governors function which returns governor of request
+     */
+    RateLimitInterceptor(Function<Request, RateLimitGovernor> governors) {
+        this.governors = governors;
+    }
+
+    @Override
+    @NonNull
+    public Response intercept(Chain chain) throws IOException {
+        final RateLimitGovernor governor = governors.apply(chain.request());
+        try {
+            governor.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for rate limit");
+        }
+        final Response response;
+        try {
+            response = chain.proceed(chain.request());
+        } catch (RequestRejectedException e) {
+            // request never reached API, so it didn't consume rate limit
+            governor.refund();
+            throw e;
+        } catch (IOException | RuntimeException | Error e) {
+            governor.release(null);
+            throw e;
+        }
+        governor.release(response);
+        return response;
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import java.io.IOException;
+
+/**
+ * Thrown when request is rejected by client before it's sent, to shed load from unhealthy API.
+ * Rejected requests aren't retried.
+ */
+public class RequestRejectedException extends IOException {
+    public RequestRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * In-memory mirror of single resource type, indexed by ID and by labels.
+ * <p>Every {@link #refresh()} fetches all resources, publishes new immutable {@link Snapshot}
+ * and notifies listeners about differences to previous snapshot. Refresh is full re-list of resource type,
+ * API offers no way to fetch only resources changed since previous refresh; only events are incremental.
+ * Readers never block and never cause any request, snapshot they obtained stays consistent regardless
+ * of later refreshes.</p>
+ * <p>Refreshes can overlap, for example manual one with background one. Result of fetch which started
+ * before fetch of already published snapshot is discarded, so that snapshot never goes back in time.</p>
+ *
+ * @param <T> resource type
+ */
+@Slf4j
+public class ResourceMirror<T extends IdentifiableResource> {
+    private final String name;
+    private final ItemsFetcher<T> fetcher;
+    private final Function<T, Map<String, String>> labelsGetter;
+    private final AtomicReference<Snapshot<T>> snapshot;
+    /**
+     * Generation of last started fetch.
+     */
+    private final AtomicLong generation = new AtomicLong();
+    /**
+     * Generation of fetch whose result is published, guarded by {@code this}.
+     */
+    private long publishedGeneration;
+    private final List<MirrorListener<? super T>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Create new mirror.
+     *
+     * @param name name of resource type, used in log messages
+     * @param fetcher fetches all resources
+     * @param labelsGetter extracts labels from resource
+     */
+    ResourceMirror(String name, ItemsFetcher<T> fetcher, Function<T, Map<String, String>> labelsGetter) {
+        this.name = name;
+        this.fetcher = fetcher;
+        this.labelsGetter = labelsGetter;
+        this.snapshot = new AtomicReference<>(new Snapshot<>(ImmutableList.of(), labelsGetter, null));
+    }
+
+    /**
+     * Get latest snapshot.
+     *
+     * @return snapshot, empty one if mirror wasn't refreshed yet
+     */
+    public Snapshot<T> getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Register listener.
+     *
+     * @param listener listener to notify about changes
+     */
+    public void addListener(MirrorListener<? super T> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregister listener.
+     *
+     * @param listener listener to remove
+     */
+    public void removeListener(MirrorListener<? super T> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Fetch all resources, publish new snapshot and notify listeners.
+     * If fetch fails, or newer fetch was published meanwhile, previous snapshot is kept.
+     *
+     * @throws IOException if fetch fails
+     */
+    public void refresh() throws IOException {
+        final long fetchGeneration = generation.incrementAndGet();
+        final List<T> items = fetcher.fetch();
+        // publishing is serialized, so that listeners observe changes in order
+        synchronized (this) {
+            if (fetchGeneration < publishedGeneration) {
+                log.debug("Discarding stale fetch of {}", name);
+                return;
+            }
+            publishedGeneration = fetchGeneration;
+            final Snapshot<T> previous = snapshot.get();
+            final Snapshot<T> current = new Snapshot<>(items, labelsGetter, Instant.now());
+            snapshot.set(current);
+            if (!listeners.isEmpty()) {
+                notifyListeners(previous, current);
+            }
+        }
+    }
+
+    private void notifyListeners(Snapshot<T> previous, Snapshot<T> current) {
+        for (T item : current.getItems()) {
+            final T old = previous.get(item.getId());
+            if (old == null) {
+                fire(l -> l.onAdded(item));
+            } else if (!old.equals(item)) {
+                fire(l -> l.onChanged(old, item));
+            }
+        }
+        for (T item : previous.getItems()) {
+            if (current.get(item.getId()) == null) {
+                fire(l -> l.onRemoved(item));
+            }
+        }
+    }
+
+    private void fire(Consumer<MirrorListener<? super T>> event) {
+        for (MirrorListener<? super T> listener : listeners) {
+            try {
+                event.accept(listener);
+            } catch (RuntimeException e) {
+                log.warn("Listener of {} mirror failed", name, e);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ResourceMirror(" + name + ")";
+    }
+
+    @FunctionalInterface
+    interface ItemsFetcher<T> {
+        List<T> fetch() throws IOException;
+    }
+
+    /**
+     * Immutable view of mirrored resources at single point in time.
+     *
+     * @param <T> resource type
+     */
+    public static final class Snapshot<T extends IdentifiableResource> {
+        private final ImmutableMap<Long, T> byId;
+        private final ImmutableMap<String, ImmutableListMultimap<String, T>> byLabel;
+        private final Function<T, Map<String, String>> labelsGetter;
+        private final Instant refreshedAt;
+
+        Snapshot(Collection<T> items, Function<T, Map<String, String>> labelsGetter, Instant refreshedAt) {
+            final Map<Long, T> ids = new LinkedHashMap<>();
+            final Map<String, ImmutableListMultimap.Builder<String, T>> labels = new HashMap<>();
+            for (T item : items) {
+                if (item.getId() == null || ids.putIfAbsent(item.getId(), item) != null) {
+                    continue;
+                }
+                final Map<String, String> itemLabels = labelsGetter.apply(item);
+                if (itemLabels != null) {
+                    itemLabels.forEach((key, value) -> labels
+                            .computeIfAbsent(key, k -> ImmutableListMultimap.builder())
+                            .put(Objects.toString(value, ""), item));
+                }
+            }
+            this.byId = ImmutableMap.copyOf(ids);
+            final ImmutableMap.Builder<String, ImmutableListMultimap<String, T>> index = ImmutableMap.builder();
+            labels.forEach((key, builder) -> index.put(key, builder.build()));
+            this.byLabel = index.build();
+            this.labelsGetter = labelsGetter;
+            this.refreshedAt = refreshedAt;
+        }
+
+        /**
+         * Get all resources, in order they were returned by API.
+         *
+         * @return all resources
+         */
+        public Collection<T> getItems() {
+            return byId.values();
+        }
+
+        /**
+         * Get resource by ID.
+         *
+         * @param id resource ID
+         * @return resource or null if there is no such resource
+         */
+        public T get(long id) {
+            return byId.get(id);
+        }
+
+        /**
+         * Get number of resources.
+         *
+         * @return number of resources
+         */
+        public int size() {
+            return byId.size();
+        }
+
+        /**
+         * Find resources which have label with given value.
+         *
+         * @param key label key
+         * @param value label value
+         * @return matching resources
+         */
+        public List<T> findByLabel(String key, String value) {
+            final ImmutableListMultimap<String, T> values = byLabel.get(key);
+            return values != null ? values.get(value) : ImmutableList.of();
+        }
+
+        /**
+         * Find resources which have label with given key, regardless of its value.
+         *
+         * @param key label key
+         * @return matching resources
+         */
+        public List<T> findByLabelKey(String key) {
+            final ImmutableListMultimap<String, T> values = byLabel.get(key);
+            return values != null ? values.values().asList() : ImmutableList.of();
+        }
+
+        /**
+         * Find resources matching label selector.
+         * <p>Candidates are taken from label index of most selective requirement which needs label to be present,
+         * remaining requirements are evaluated on candidates only.</p>
+         *
+         * @param selector label selector
+         * @return matching resources
+         */
+        public List<T> select(LabelSelector selector) {
+            Collection<T> candidates = null;
+            for (LabelSelector.Requirement requirement : selector.getRequirements()) {
+                if (requirement.requiresKey()) {
+                    final Collection<T> indexed = lookup(requirement);
+                    if (candidates == null || indexed.size() < candidates.size()) {
+                        candidates = indexed;
+                    }
+                }
+            }
+            if (candidates == null) {
+                candidates = getItems();
+            }
+            final ImmutableList.Builder<T> result = ImmutableList.builder();
+            for (T item : candidates) {
+                if (selector.matches(labelsGetter.apply(item))) {
+                    result.add(item);
+                }
+            }
+            return result.build();
+        }
+
+        /**
+         * Find resources matching label selector.
+         *
+         * @param selector label selector in syntax of API
+         * @return matching resources
+         * @throws IllegalArgumentException if selector is not valid
+         */
+        public List<T> select(String selector) {
+            return select(LabelSelector.parse(selector));
+        }
+
+        private Collection<T> lookup(LabelSelector.Requirement requirement) {
+            if (requirement.getOperator() == LabelSelector.Operator.EXISTS) {
+                return findByLabelKey(requirement.getKey());
+            }
+            if (requirement.getValues().size() == 1) {
+                return findByLabel(requirement.getKey(), requirement.getValues().iterator().next());
+            }
+            final ImmutableList.Builder<T> result = ImmutableList.builder();
+            for (String value : requirement.getValues()) {
+                result.addAll(findByLabel(requirement.getKey(), value));
+            }
+            return result.build();
+        }
+
+        /**
+         * Get all label keys used by resources.
+         *
+         * @return label keys
+         */
+        public Set<String> getLabelKeys() {
+            return byLabel.keySet();
+        }
+
+        /**
+         * Get time when snapshot was taken.
+         *
+         * @return time of refresh or null if mirror wasn't refreshed yet
+         */
+        public Instant getRefreshedAt() {
+            return refreshedAt;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Limits number of retries relative to number of requests, so that retries can't amplify an outage.
+ * <p>Every request deposits {@code ratio} of retry, every retry withdraws one. Budget starts with reserve,
+ * which allows retries when traffic is low, and never holds more than {@code maxAvailable} retries,
+ * so that long healthy period can't fund burst of retries once outage starts.</p>
+ */
+public class RetryBudget {
+    /**
+     * Budget shared by all clients which don't specify their own: 10% of requests, 10 retries in reserve,
+     * at most 20 retries available.
+     */
+    public static final RetryBudget GLOBAL = new RetryBudget(0.1, 10, 20);
+
+    private final double ratio;
+    private final double maxBalance;
+    private double balance;
+
+    /**
+     * Create new retry budget which holds at most its reserve.
+     *
+     * @param ratio fraction of requests that can be retried
+     * @param reserve number of retries available regardless of traffic
+     */
+    public RetryBudget(double ratio, int reserve) {
+        this(ratio, reserve, reserve);
+    }
+
+    /**
+     * Create new retry budget.
+     *
+     * @param ratio fraction of requests that can be retried
+     * @param reserve number of retries available initially
+     * @param maxAvailable maximum number of retries that can be saved up by deposits, at least reserve
+     */
+    public RetryBudget(double ratio, int reserve, int maxAvailable) {
+        Preconditions.checkArgument(ratio >= 0, "Ratio must not be negative");
+        Preconditions.checkArgument(reserve >= 0, "Reserve must not be negative");
+        Preconditions.checkArgument(maxAvailable >= reserve, "Maximum must not be lower than reserve");
+        this.ratio = ratio;
+        this.maxBalance = maxAvailable;
+        this.balance = reserve;
+    }
+
+    /**
+     * Record request made.
+     */
+    public synchronized void deposit() {
+        balance = Math.min(maxBalance, balance + ratio);
+    }
+
+    /**
+     * Try to withdraw single retry from budget.
+     *
+     * @return true if retry is allowed
+     */
+    public synchronized boolean tryWithdraw() {
+        if (balance < 1) {
+            return false;
+        }
+        balance -= 1;
+        return true;
+    }
+
+    /**
+     * Get number of retries currently available.
+     *
+     * @return available retries
+     */
+    public synchronized int getAvailable() {
+        return (int) balance;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.net.HttpHeaders;
+import com.google.common.primitives.Longs;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Interceptor} which retries failed requests according to {@link RetryPolicy}.
+ */
+@Slf4j
+class RetryInterceptor implements Interceptor {
+    private final RetryPolicy policy;
+
+    RetryInterceptor(RetryPolicy policy) {
+        this.policy = policy;
+    }
+
+    @Override
+    @NonNull
+    public Response intercept(Chain chain) throws IOException {
+        final Request request = chain.request();
+        final boolean retryable = policy.getRetryableMethods().contains(request.method());
+        policy.getBudget().deposit();
+        for (int attempt = 1; ; attempt++) {
+            final long start = System.nanoTime();
+            Response response = null;
+            IOException error = null;
+            try {
+                response = chain.proceed(request);
+            } catch (IOException e) {
+                error = e;
+            }
+            policy.getListener().onAttempt(request, attempt, System.nanoTime() - start,
+                    response != null ? response.code() : -1);
+            final boolean failed = response == null
+                    || policy.getRetryableStatusCodes().contains(response.code());
+            // rejected requests fail fast, retrying them would only add load
+            if (!failed || !retryable || error instanceof RequestRejectedException
+                    || attempt >= policy.getMaxAttempts() || chain.call().isCanceled()) {
+                return result(response, error);
+            }
+            if (!policy.getBudget().tryWithdraw()) {
+                policy.getListener().onBudgetExhausted(request);
+                return result(response, error);
+            }
+            final long delay = delayMillis(attempt, response);
+            log.debug("Retrying {} {} in {} ms (attempt {} of {})", request.method(), request.url().encodedPath(),
+                    delay, attempt + 1, policy.getMaxAttempts());
+            policy.getListener().onRetry(request, attempt + 1, delay);
+            if (response != null) {
+                response.close();
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting to retry");
+            }
+        }
+    }
+
+    private static Response result(Response response, IOException error) throws IOException {
+        if (error != null) {
+            throw error;
+        }
+        return response;
+    }
+
+    private long delayMillis(int attempt, Response response) {
+        final long maxDelay = policy.getMaxBackoff().toMillis();
+        final Long retryAfter = response != null ? retryAfterMillis(response.header(HttpHeaders.RETRY_AFTER)) : null;
+        if (retryAfter != null) {
+            return Math.min(maxDelay, Math.max(0, retryAfter));
+        }
+        // exponential backoff with full jitter
+        final long ceiling = Math.min(maxDelay, policy.getInitialBackoff().toMillis() << Math.min(attempt - 1, 30));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static Long retryAfterMillis(String value) {
+        if (value == null) {
+            return null;
+        }
+        final Long seconds = Longs.tryParse(value.trim());
+        if (seconds != null) {
+            return TimeUnit.SECONDS.toMillis(seconds);
+        }
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli()
+                    - System.currentTimeMillis();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
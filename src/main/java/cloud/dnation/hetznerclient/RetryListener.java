@@ -0,0 +1,55 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import okhttp3.Request;
+
+/**
+ * Hook notified about attempts made by retry layer, intended for metrics.
+ */
+public interface RetryListener {
+    RetryListener NOOP = new RetryListener() {
+    };
+
+    /**
+     * Called after every attempt.
+     *
+     * @param request request being made
+     * @param attempt attempt number, starting at 1
+     * @param latencyNanos duration of attempt in nanoseconds
+     * @param code HTTP status code of response or -1 if attempt failed with I/O error
+     */
+    default void onAttempt(Request request, int attempt, long latencyNanos, int code) {
+    }
+
+    /**
+     * Called before attempt is retried.
+     *
+     * @param request request being made
+     * @param attempt number of attempt that is about to be made
+     * @param delayMillis delay before next attempt
+     */
+    default void onRetry(Request request, int attempt, long delayMillis) {
+    }
+
+    /**
+     * Called when attempt would be retried, but retry budget is exhausted.
+     *
+     * @param request request being made
+     */
+    default void onBudgetExhausted(Request request) {
+    }
+}
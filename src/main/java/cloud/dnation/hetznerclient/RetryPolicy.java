@@ -0,0 +1,84 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.collect.ImmutableSet;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Policy used to retry failed requests.
+ * Delay between attempts grows exponentially with full jitter, unless server sends {@code Retry-After} header.
+ */
+@Value
+@Builder(toBuilder = true)
+public class RetryPolicy {
+    /**
+     * Recommended policy: up to 3 attempts of GET and DELETE requests. It's not used unless set
+     * by {@link ClientOptions#getRetryPolicy()}.
+     */
+    public static final RetryPolicy DEFAULT = RetryPolicy.builder().build();
+
+    /**
+     * Policy which never retries.
+     */
+    public static final RetryPolicy NONE = RetryPolicy.builder().maxAttempts(1).build();
+
+    /**
+     * Maximum number of attempts, including first one.
+     */
+    @Builder.Default
+    int maxAttempts = 3;
+
+    /**
+     * Upper bound of delay before first retry.
+     */
+    @Builder.Default
+    Duration initialBackoff = Duration.ofMillis(200);
+
+    /**
+     * Upper bound of delay between any two attempts, including delay requested by server.
+     */
+    @Builder.Default
+    Duration maxBackoff = Duration.ofSeconds(10);
+
+    /**
+     * HTTP methods which are safe to retry.
+     */
+    @Builder.Default
+    Set<String> retryableMethods = ImmutableSet.of("GET", "DELETE");
+
+    /**
+     * HTTP status codes which are retried.
+     */
+    @Builder.Default
+    Set<Integer> retryableStatusCodes = ImmutableSet.of(429, 502, 503, 504);
+
+    /**
+     * Budget which limits number of retries.
+     */
+    @Builder.Default
+    RetryBudget budget = RetryBudget.GLOBAL;
+
+    /**
+     * Listener notified about attempts.
+     */
+    @Builder.Default
+    RetryListener listener = RetryListener.NOOP;
+}
@@ -0,0 +1,34 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+/**
+ * Determines which servers created by {@link BulkProvisioner} are deleted when batch doesn't fully succeed.
+ */
+public enum RollbackPolicy {
+    /**
+     * Keep all created servers.
+     */
+    NONE,
+    /**
+     * Delete servers which were created, but didn't become ready.
+     */
+    FAILED,
+    /**
+     * Delete all servers created by batch if any item fails.
+     */
+    ALL
+}
@@ -0,0 +1,277 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import lombok.NonNull;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+
+/**
+ * {@link Call} whose response can be shared with other calls of same request.
+ * <p>Before sending request, call registers {@link Flight} under key derived from HTTP method, URL
+ * and {@link Projection} in effect. If registry already holds flight for that key, call waits for it
+ * instead of sending its own request. Response bodies are therefore shared between callers
+ * and must not be modified. Error bodies are buffered, so every caller can read its own copy.</p>
+ * <p>Cancelling call stops waiting for response. Shared request is cancelled only once all calls
+ * waiting for it are cancelled.</p>
+ *
+ * @param <T> response body type
+ */
+class SharedCall<T> implements Call<T> {
+    private final Call<T> delegate;
+    private final BiFunction<Object, CompletableFuture<?>, CompletableFuture<?>> registry;
+    private final AtomicBoolean executed = new AtomicBoolean();
+    /**
+     * Response of this call, completed from shared flight or by cancellation.
+     */
+    private final CompletableFuture<Response<T>> result = new CompletableFuture<>();
+    private volatile boolean canceled;
+
+    /**
+     * Create new call.
+     *
+     * @param delegate call used to send request when there is no response to share
+     * @param registry function which takes key and candidate future and returns future registered under key,
+     *                 registering candidate if there is none. Candidate is completed by this call
+     *                 with {@link Outcome} of request.
+     */
+    SharedCall(Call<T> delegate, BiFunction<Object, CompletableFuture<?>, CompletableFuture<?>> registry) {
+        this.delegate = delegate;
+        this.registry = registry;
+    }
+
+    static List<Object> key(Request request) {
+        return Arrays.asList(request.method(), request.url(), Projection.current());
+    }
+
+    /**
+     * Join flight registered for request of this call, registering new one if there is none.
+     *
+     * @return joined flight, this call must send request if it's flight's leader
+     */
+    @SuppressWarnings("unchecked")
+    private Flight<T> join() {
+        if (!executed.compareAndSet(false, true)) {
+            throw new IllegalStateException("Already executed.");
+        }
+        final Object key = key(delegate.request());
+        Flight<T> flight;
+        do {
+            // flight abandoned by all its callers is about to be unregistered
+            flight = (Flight<T>) registry.apply(key, new Flight<>(delegate));
+        } while (!flight.attach());
+        flight.whenComplete((outcome, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(outcome.toResponse());
+            }
+        });
+        final Flight<T> joined = flight;
+        result.whenComplete((response, error) -> joined.detach());
+        return flight;
+    }
+
+    @Override
+    @NonNull
+    public Response<T> execute() throws IOException {
+        if (canceled) {
+            throw new IOException("Canceled");
+        }
+        final Flight<T> flight = join();
+        if (flight.isLeader(delegate)) {
+            // request is sent on this thread, so that thread-local state such as projection applies
+            try {
+                flight.complete(Outcome.of(delegate.execute()));
+            } catch (IOException | RuntimeException e) {
+                flight.completeExceptionally(e);
+            }
+        }
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            cancel();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for shared response");
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause() != null
+                    ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    @Override
+    public void enqueue(@NonNull Callback<T> callback) {
+        final Flight<T> flight = join();
+        if (flight.isLeader(delegate)) {
+            delegate.enqueue(new Callback<T>() {
+                @Override
+                public void onResponse(Call<T> c, Response<T> response) {
+                    try {
+                        flight.complete(Outcome.of(response));
+                    } catch (IOException e) {
+                        flight.completeExceptionally(e);
+                    }
+                }
+
+                @Override
+                public void onFailure(Call<T> c, Throwable t) {
+                    flight.completeExceptionally(t);
+                }
+            });
+        }
+        result.whenComplete((response, error) -> {
+            if (error != null) {
+                callback.onFailure(this, error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            } else {
+                callback.onResponse(this, response);
+            }
+        });
+    }
+
+    @Override
+    public boolean isExecuted() {
+        return executed.get();
+    }
+
+    /**
+     * Cancel this call. Shared request is cancelled once no other caller waits for it.
+     * Thread which sends shared request returns from {@link #execute()} once request completes.
+     */
+    @Override
+    public void cancel() {
+        canceled = true;
+        result.completeExceptionally(new IOException("Canceled"));
+    }
+
+    @Override
+    public boolean isCanceled() {
+        return canceled;
+    }
+
+    @Override
+    @NonNull
+    public Call<T> clone() {
+        return new SharedCall<>(delegate.clone(), registry);
+    }
+
+    @Override
+    @NonNull
+    public Request request() {
+        return delegate.request();
+    }
+
+    @Override
+    @NonNull
+    public Timeout timeout() {
+        return delegate.timeout();
+    }
+
+    /**
+     * Single request shared by calls waiting for it, cancelled once all of them were cancelled.
+     *
+     * @param <T> response body type
+     */
+    private static final class Flight<T> extends CompletableFuture<Outcome<T>> {
+        private final Call<T> call;
+        private int callers;
+        private boolean abandoned;
+
+        Flight(Call<T> call) {
+            this.call = call;
+        }
+
+        boolean isLeader(Call<T> candidate) {
+            return call == candidate;
+        }
+
+        synchronized boolean attach() {
+            if (abandoned) {
+                return false;
+            }
+            callers++;
+            return true;
+        }
+
+        void detach() {
+            synchronized (this) {
+                if (--callers > 0 || isDone()) {
+                    return;
+                }
+                abandoned = true;
+            }
+            completeExceptionally(new IOException("Canceled"));
+            call.cancel();
+        }
+    }
+
+    /**
+     * Response of shared request, with error body buffered so that each caller gets its own copy.
+     *
+     * @param <T> response body type
+     */
+    static final class Outcome<T> {
+        private final Response<T> response;
+        private final MediaType errorType;
+        private final byte[] errorBody;
+
+        private Outcome(Response<T> response, MediaType errorType, byte[] errorBody) {
+            this.response = response;
+            this.errorType = errorType;
+            this.errorBody = errorBody;
+        }
+
+        static <T> Outcome<T> of(Response<T> response) throws IOException {
+            if (response.isSuccessful() || response.errorBody() == null) {
+                return new Outcome<>(response, null, null);
+            }
+            try (ResponseBody body = response.errorBody()) {
+                return new Outcome<>(response, body.contentType(), body.bytes());
+            }
+        }
+
+        boolean isSuccessful() {
+            return response.isSuccessful();
+        }
+
+        Response<T> toResponse() {
+            return errorBody == null ? response
+                    : Response.error(ResponseBody.create(errorType, errorBody), response.raw());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import retrofit2.Call;
+import retrofit2.http.GET;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link HetznerApi} decorator which coalesces identical in-flight GET requests.
+ * <p>Requests are identical when they have same HTTP method, path and query. While request is in flight,
+ * identical requests wait for its response instead of being sent. Nothing is kept once response arrives.
+ * Response bodies are shared between callers and must not be modified. Cancelling call stops only its own wait,
+ * request is cancelled once all calls waiting for it are cancelled.</p>
+ * <p>Example:</p>
+ * <pre>
+ *     HetznerApi api = new SingleFlightApiDecorator(ClientFactory.create(() -&gt; token)).getApi();
+ * </pre>
+ */
+public class SingleFlightApiDecorator extends ApiDecorator {
+    private final ConcurrentHashMap<Object, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * Create new decorator.
+     *
+     * @param api API to decorate
+     */
+    public SingleFlightApiDecorator(HetznerApi api) {
+        super(api);
+    }
+
+    @Override
+    <T> Call<T> decorate(Method method, Call<T> call) {
+        if (!method.isAnnotationPresent(GET.class)) {
+            return call;
+        }
+        return new SharedCall<>(call, (key, candidate) -> {
+            final CompletableFuture<?> shared = inFlight.putIfAbsent(key, candidate);
+            if (shared != null) {
+                coalesced.incrementAndGet();
+                return shared;
+            }
+            candidate.whenComplete((response, error) -> inFlight.remove(key, candidate));
+            return candidate;
+        });
+    }
+
+    /**
+     * Get number of distinct requests currently in flight.
+     *
+     * @return number of requests
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Get number of calls which were served by response of identical request, instead of sending their own.
+     *
+     * @return number of coalesced calls
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * Options that control how {@link BulkTeardown} removes resources.
+ */
+@Value
+@Builder(toBuilder = true)
+public class TeardownOptions {
+    /**
+     * Default options.
+     */
+    public static final TeardownOptions DEFAULT = TeardownOptions.builder().build();
+
+    /**
+     * Maximum number of resources being removed concurrently.
+     */
+    @Builder.Default
+    int concurrency = 10;
+
+    /**
+     * Maximum number of mutating requests (power off, delete) sent per second.
+     */
+    @Builder.Default
+    double requestsPerSecond = 5.0;
+
+    /**
+     * Power off servers and wait for it before deleting them.
+     */
+    boolean powerOff;
+
+    /**
+     * Delete servers matching selector.
+     */
+    @Builder.Default
+    boolean deleteServers = true;
+
+    /**
+     * Delete primary IPs matching selector, once servers are deleted.
+     */
+    @Builder.Default
+    boolean deletePrimaryIps = true;
+
+    /**
+     * Delete SSH keys matching selector, once servers are deleted.
+     */
+    @Builder.Default
+    boolean deleteSshKeys = true;
+
+    /**
+     * Maximum time to wait for single action to finish.
+     */
+    @Builder.Default
+    Duration actionTimeout = Duration.ofMinutes(5);
+
+    /**
+     * Executor used to remove resources. When not set, shared pool of daemon threads is used.
+     */
+    Executor executor;
+
+    /**
+     * Remove resources on virtual threads, unless {@link #executor} is set.
+     * Requires JDK 21 or newer, shared pool of daemon threads is used on older runtimes.
+     */
+    boolean virtualThreads;
+}
@@ -0,0 +1,102 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.collect.ImmutableList;
+import lombok.Value;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Outcome of {@link BulkTeardown#teardown(String)}.
+ */
+@Value
+public class TeardownReport {
+    public enum ResourceType {
+        SERVER,
+        PRIMARY_IP,
+        SSH_KEY
+    }
+
+    /**
+     * Outcome of removal of single resource.
+     */
+    @Value
+    public static class Item {
+        ResourceType type;
+        long id;
+        String name;
+        /**
+         * Finished actions triggered by removal, empty if resource is removed synchronously.
+         */
+        List<ActionDetail> actions;
+        /**
+         * Cause of failure, null if resource was removed.
+         */
+        Throwable error;
+
+        public boolean isSucceeded() {
+            return error == null;
+        }
+    }
+
+    /**
+     * All processed resources, in order of removal phases.
+     */
+    List<Item> items;
+
+    public TeardownReport(List<Item> items) {
+        this.items = ImmutableList.copyOf(items);
+    }
+
+    /**
+     * Check whether all resources were removed.
+     *
+     * @return true if there is no failure
+     */
+    public boolean isSucceeded() {
+        return items.stream().allMatch(Item::isSucceeded);
+    }
+
+    /**
+     * Get resources which couldn't be removed.
+     *
+     * @return failed items
+     */
+    public List<Item> getFailures() {
+        return items.stream().filter(i -> !i.isSucceeded()).collect(Collectors.toList());
+    }
+
+    /**
+     * Get number of removed resources of given type.
+     *
+     * @param type resource type
+     * @return number of removed resources
+     */
+    public long getRemovedCount(ResourceType type) {
+        return items.stream().filter(i -> i.getType() == type && i.isSucceeded()).count();
+    }
+
+    /**
+     * Get all finished actions triggered by removal.
+     *
+     * @return actions
+     */
+    public List<ActionDetail> getActions() {
+        return items.stream().flatMap(i -> i.getActions().stream()).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to virtual threads of JDK 21+ while keeping Java 8 compatibility.
+ * API is looked up reflectively once, on older runtimes virtual threads are reported as unsupported.
+ */
+@Slf4j
+@UtilityClass
+class VirtualThreads {
+    /**
+     * Executor starting new virtual thread per task or null when virtual threads aren't supported.
+     */
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    private static ExecutorService createExecutor() {
+        try {
+            final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Object named = Class.forName("java.lang.Thread$Builder$OfVirtual")
+                    .getMethod("name", String.class, long.class).invoke(builder, "hetzner-virtual-", 0L);
+            final ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(named);
+            final Method newExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) newExecutor.invoke(null, factory);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("Virtual threads are not supported by this runtime: {}", e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Check whether runtime supports virtual threads.
+     *
+     * @return true on JDK 21 and newer
+     */
+    static boolean isSupported() {
+        return EXECUTOR != null;
+    }
+
+    /**
+     * Get shared executor which runs each task in new virtual thread.
+     *
+     * @return executor or null if virtual threads aren't supported
+     */
+    static ExecutorService executor() {
+        return EXECUTOR;
+    }
+
+    /**
+     * Pick executor of blocking tasks.
+     *
+     * @param explicit executor set by caller or null
+     * @param virtual whether caller asked for virtual threads
+     * @param fallback executor used otherwise
+     * @return explicit executor if set, virtual thread executor if asked for and supported, fallback otherwise
+     */
+    static Executor select(Executor explicit, boolean virtual, Executor fallback) {
+        if (explicit != null) {
+            return explicit;
+        }
+        return virtual && isSupported() ? EXECUTOR : fallback;
+    }
+}
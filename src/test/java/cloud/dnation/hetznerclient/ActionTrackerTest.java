@@ -0,0 +1,104 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ActionTrackerTest {
+    private MockWebServer ws;
+    private HetznerApi api;
+    private final Map<Long, AtomicInteger> progress = new ConcurrentHashMap<>();
+
+    @Before
+    public void setUp() throws IOException {
+        ws = new MockWebServer();
+        ws.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                final List<String> ids = request.getRequestUrl().queryParameterValues("id");
+                final StringBuilder sb = new StringBuilder("{\"actions\":[");
+                for (int i = 0; i < ids.size(); i++) {
+                    final long id = Long.parseLong(ids.get(i));
+                    // every action advances by (id * 25)% per poll
+                    final int value = Math.min(100, progress.computeIfAbsent(id, k -> new AtomicInteger())
+                            .addAndGet((int) id * 25));
+                    if (i > 0) {
+                        sb.append(',');
+                    }
+                    sb.append("{\"id\":").append(id)
+                            .append(",\"progress\":").append(value)
+                            .append(",\"status\":\"").append(value == 100 ? (id == 3 ? "error" : "success")
+                                    : "running").append("\"}");
+                }
+                sb.append("],\"meta\":{\"pagination\":{\"page\":1,\"next_page\":null,\"last_page\":1}}}");
+                return new MockResponse().setBody(sb.toString());
+            }
+        });
+        ws.start();
+        System.setProperty("cloud.dnation.hetznerclient.apiendpoint",
+                "http://localhost:" + ws.getPort());
+        api = ClientFactory.create(() -> "mock");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        ws.shutdown();
+    }
+
+    @Test
+    public void testTrackMultipleActions() throws Exception {
+        try (ActionTracker tracker = new ActionTracker(api, null, Duration.ofMillis(10),
+                Duration.ofMillis(50))) {
+            final CompletableFuture<ActionDetail> a1 = tracker.track(1);
+            final CompletableFuture<ActionDetail> a2 = tracker.track(2);
+            final CompletableFuture<ActionDetail> a3 = tracker.track(3);
+            assertEquals("success", a1.get(5, TimeUnit.SECONDS).getStatus());
+            assertEquals("success", a2.get(5, TimeUnit.SECONDS).getStatus());
+            assertEquals("error", a3.get(5, TimeUnit.SECONDS).getStatus());
+            assertEquals(0, tracker.getPendingCount());
+            // slowest action needs 4 polls, others are polled in the same batch
+            assertTrue(ws.getRequestCount() < 1 + 2 + 4);
+        }
+    }
+
+    @Test
+    public void testTrackFinishedAction() throws Exception {
+        try (ActionTracker tracker = new ActionTracker(api)) {
+            final ActionDetail done = new ActionDetail().status("success");
+            done.setId(42L);
+            assertTrue(tracker.track(done).isDone());
+            assertEquals(0, ws.getRequestCount());
+        }
+    }
+}
@@ -21,15 +21,20 @@ import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import retrofit2.Call;
+import retrofit2.HttpException;
 import retrofit2.Response;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 import static cloud.dnation.hetznerclient.TestHelper.resourceAsString;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 
 @SuppressWarnings("DataFlowIssue")
 public class BasicTest {
@@ -67,6 +72,27 @@ public class BasicTest {
         assertEquals(117017457L, relatedResources.get(0).getId().longValue());
     }
 
+    @Test
+    public void testGetAllServersWithProjection() throws IOException {
+        ws.enqueue(new MockResponse()
+                .setBody(resourceAsString("get-servers-by-selector.json"))
+        );
+        final List<ServerDetail> servers = PagedResourceHelper.getAllServers(api, "jenkins.io/cloud=hcloud-01",
+                PagingOptions.builder().projection(Projection.of("name", "status", "labels")).build());
+        assertEquals(3, servers.size());
+        final ServerDetail server = servers.get(0);
+        assertEquals(4711000L, server.getId().longValue());
+        assertEquals("jenkins-agent-0", server.getName());
+        assertEquals("running", server.getStatus());
+        assertEquals("hcloud-01", server.getLabels().get("jenkins.io/cloud"));
+        assertNull(server.getPublicNet());
+        assertNull(server.getPrivateNet());
+        assertNull(server.getServerType());
+        assertNull(server.getDatacenter());
+        assertNull(server.getImage());
+        assertNull(Projection.current());
+    }
+
     @Test
     public void testGetNetworkById() throws IOException {
         ws.enqueue(new MockResponse()
@@ -176,6 +202,30 @@ public class BasicTest {
         assertEquals(404, response.code());
     }
 
+    @Test
+    public void testAsyncGetNetworkById() throws Exception {
+        ws.enqueue(new MockResponse().setBody(resourceAsString("get-network-by-id.json")));
+        ws.enqueue(new MockResponse()
+                .setBody(resourceAsString("get-network-by-id-invalid.json"))
+                .setResponseCode(404)
+        );
+        final AsyncHetznerApi asyncApi = new AsyncHetznerApi(api);
+        assertEquals("my-net-1", asyncApi.getNetworkById(10).get().getNetwork().getName());
+        try {
+            asyncApi.getNetworkById(11).get();
+            fail("Expected HttpException");
+        } catch (ExecutionException e) {
+            assertEquals(404, ((HttpException) e.getCause()).code());
+        }
+    }
+
+    @Test
+    public void testClientsAreReused() {
+        assertSame(api, ClientFactory.create(() -> "mock"));
+        assertNotSame(api, ClientFactory.create(() -> "other"));
+        assertNotSame(api, ClientFactory.create(() -> "mock", ClientOptions.builder().http2(false).build()));
+    }
+
     @Test
     public void testPaginationHelper() throws IOException {
         ws.enqueue(new MockResponse().setBody(resourceAsString("paging-primary-ips-1.json")));
@@ -0,0 +1,213 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.gson.Gson;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BulkProvisionerTest {
+    private final Gson gson = new Gson();
+    private final AtomicLong nextId = new AtomicLong(100);
+    private final Map<Long, AtomicInteger> statusPolls = new ConcurrentHashMap<>();
+    private final Set<Long> deleted = ConcurrentHashMap.newKeySet();
+    private final Set<Long> stuck = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private MockWebServer ws;
+    private HetznerApi api;
+    private ActionTracker tracker;
+
+    /**
+     * Simulates API: server named "broken" can't be created, action of server named "failing" fails,
+     * server named "stuck" never starts. Other servers report "running" on second status poll.
+     */
+    private MockResponse dispatch(RecordedRequest request) {
+        final String path = request.getRequestUrl().encodedPath();
+        if ("POST".equals(request.getMethod()) && path.equals("/v1/servers")) {
+            final CreateServerRequest body = gson.fromJson(request.getBody().readUtf8(), CreateServerRequest.class);
+            if ("broken".equals(body.getName())) {
+                return new MockResponse().setResponseCode(422)
+                        .setBody("{\"error\":{\"code\":\"invalid_input\",\"message\":\"invalid input\"}}");
+            }
+            final long id = nextId.getAndIncrement();
+            if ("stuck".equals(body.getName())) {
+                stuck.add(id);
+            }
+            final long actionId = "failing".equals(body.getName()) ? -id : id;
+            final int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            return new MockResponse().setResponseCode(201).setBody("{\"server\":{\"id\":" + id
+                    + ",\"name\":\"" + body.getName() + "\",\"status\":\"initializing\"},"
+                    + "\"action\":{\"id\":" + actionId + ",\"command\":\"create_server\",\"status\":\"running\"}}");
+        }
+        if (path.equals("/v1/actions")) {
+            final StringBuilder sb = new StringBuilder("{\"actions\":[");
+            final List<String> ids = request.getRequestUrl().queryParameterValues("id");
+            for (int i = 0; i < ids.size(); i++) {
+                final long id = Long.parseLong(ids.get(i));
+                sb.append(i > 0 ? "," : "").append("{\"id\":").append(id).append(",\"command\":\"create_server\",")
+                        .append(id < 0 ? "\"status\":\"error\",\"error\":{\"code\":\"x\",\"message\":\"boom\"}}"
+                                : "\"status\":\"success\",\"progress\":100}");
+            }
+            return new MockResponse().setBody(sb.append("],\"meta\":{\"pagination\":{\"page\":1,\"last_page\":1}}}")
+                    .toString());
+        }
+        final long id = Long.parseLong(path.substring(path.lastIndexOf('/') + 1));
+        if ("DELETE".equals(request.getMethod())) {
+            deleted.add(id);
+            return new MockResponse().setBody("{\"action\":{\"id\":1,\"status\":\"running\"}}");
+        }
+        final boolean running = statusPolls.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet() > 1
+                && !stuck.contains(id);
+        if (running) {
+            inFlight.decrementAndGet();
+        }
+        return new MockResponse().setBody("{\"server\":{\"id\":" + id + ",\"status\":\""
+                + (running ? "running" : "initializing") + "\"}}");
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        ws = new MockWebServer();
+        ws.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return BulkProvisionerTest.this.dispatch(request);
+            }
+        });
+        ws.start();
+        api = ClientFactory.create(() -> "provisioner-mock", ClientOptions.builder()
+                .endpoint(ws.url("/").toString())
+                .build());
+        tracker = new ActionTracker(api, null, Duration.ofMillis(10), Duration.ofMillis(50));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        tracker.close();
+        ws.close();
+    }
+
+    private static List<CreateServerRequest> requests(String... names) {
+        final List<CreateServerRequest> result = new ArrayList<>();
+        for (String name : names) {
+            result.add(new CreateServerRequest().name(name));
+        }
+        return result;
+    }
+
+    private BulkProvisioner provisioner(RollbackPolicy policy) {
+        return new BulkProvisioner(api, tracker, ProvisioningOptions.builder()
+                .concurrency(3)
+                .statusPollInterval(Duration.ofMillis(10))
+                .rollbackPolicy(policy)
+                .build());
+    }
+
+    @Test
+    public void testProvisionBatch() throws Exception {
+        final List<ProvisioningResult> results = provisioner(RollbackPolicy.FAILED)
+                .provision(requests("a1", "a2", "a3", "a4", "a5", "a6", "a7", "a8"));
+        assertEquals(8, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals("a" + (i + 1), results.get(i).getRequest().getName());
+            assertTrue(results.get(i).isSucceeded());
+            assertEquals("running", results.get(i).getServer().getStatus());
+        }
+        assertTrue(maxInFlight.get() <= 3);
+        assertTrue(deleted.isEmpty());
+    }
+
+    @Test
+    public void testProvisionOnVirtualThreads() throws Exception {
+        // falls back to platform threads on older runtimes
+        final List<ProvisioningResult> results = new BulkProvisioner(api, tracker, ProvisioningOptions.builder()
+                .concurrency(3)
+                .statusPollInterval(Duration.ofMillis(10))
+                .virtualThreads(true)
+                .build())
+                .provision(requests("v1", "v2", "v3", "v4"));
+        assertTrue(results.stream().allMatch(ProvisioningResult::isSucceeded));
+    }
+
+    @Test
+    public void testRollbackFailed() throws Exception {
+        final List<ProvisioningResult> results = provisioner(RollbackPolicy.FAILED)
+                .provision(requests("ok", "broken", "failing"));
+        assertEquals(ProvisioningResult.Status.SUCCEEDED, results.get(0).getStatus());
+        assertEquals(ProvisioningResult.Status.FAILED, results.get(1).getStatus());
+        assertNull(results.get(1).getServer());
+        assertEquals(ProvisioningResult.Status.ROLLED_BACK, results.get(2).getStatus());
+        assertTrue(results.get(2).getError().getMessage().contains("boom"));
+        assertEquals(1, deleted.size());
+        assertTrue(deleted.contains(results.get(2).getServer().getId()));
+    }
+
+    @Test
+    public void testRollbackAll() throws Exception {
+        final List<ProvisioningResult> results = provisioner(RollbackPolicy.ALL)
+                .provision(requests("ok1", "ok2", "broken"));
+        assertEquals(ProvisioningResult.Status.ROLLED_BACK, results.get(0).getStatus());
+        assertEquals(ProvisioningResult.Status.ROLLED_BACK, results.get(1).getStatus());
+        assertEquals(ProvisioningResult.Status.FAILED, results.get(2).getStatus());
+        assertEquals(2, deleted.size());
+    }
+
+    @Test
+    public void testInterruptRollsBackCreatedServers() throws Exception {
+        final BulkProvisioner provisioner = provisioner(RollbackPolicy.FAILED);
+        final AtomicReference<Throwable> thrown = new AtomicReference<>();
+        final Thread thread = new Thread(() -> {
+            try {
+                provisioner.provision(requests("stuck", "stuck"));
+            } catch (Throwable t) {
+                thrown.set(t);
+            }
+        });
+        thread.start();
+        while (statusPolls.size() < 2) {
+            Thread.sleep(10);
+        }
+        thread.interrupt();
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(thread.isAlive());
+        assertTrue(thrown.get() instanceof InterruptedException);
+        assertEquals(stuck, deleted);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static cloud.dnation.hetznerclient.TestHelper.resourceAsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BulkTeardownTest {
+    private static final String SSH_KEYS = "{\"ssh_keys\":[{\"id\":11,\"name\":\"key-1\"},{\"id\":12,\"name\":\"key-2\"}],"
+            + "\"meta\":{\"pagination\":{\"page\":1,\"last_page\":1}}}";
+
+    private final Queue<String> mutations = new ConcurrentLinkedQueue<>();
+    private MockWebServer ws;
+    private HetznerApi api;
+    private ActionTracker tracker;
+
+    /**
+     * Simulates API: every action succeeds immediately, SSH key 12 is still in use.
+     */
+    private MockResponse dispatch(RecordedRequest request) throws IOException {
+        final String path = request.getRequestUrl().encodedPath();
+        if ("GET".equals(request.getMethod())) {
+            switch (path) {
+                case "/v1/servers":
+                    return new MockResponse().setBody(resourceAsString("get-servers-by-selector.json"));
+                case "/v1/primary_ips":
+                    return new MockResponse().setBody(resourceAsString("get-primary-ips-by-selector.json"));
+                case "/v1/ssh_keys":
+                    return new MockResponse().setBody(SSH_KEYS);
+                default:
+                    final StringBuilder sb = new StringBuilder("{\"actions\":[");
+                    final List<String> ids = request.getRequestUrl().queryParameterValues("id");
+                    for (int i = 0; i < ids.size(); i++) {
+                        sb.append(i > 0 ? "," : "").append("{\"id\":").append(ids.get(i))
+                                .append(",\"status\":\"success\",\"progress\":100}");
+                    }
+                    return new MockResponse().setBody(
+                            sb.append("],\"meta\":{\"pagination\":{\"page\":1,\"last_page\":1}}}").toString());
+            }
+        }
+        mutations.add(request.getMethod() + " " + path);
+        if (path.equals("/v1/ssh_keys/12")) {
+            return new MockResponse().setResponseCode(409)
+                    .setBody("{\"error\":{\"code\":\"conflict\",\"message\":\"in use\"}}");
+        }
+        if (path.startsWith("/v1/servers/")) {
+            final String id = path.substring("/v1/servers/".length()).replace("/actions/poweroff", "");
+            return new MockResponse().setResponseCode(201)
+                    .setBody("{\"action\":{\"id\":" + id + ",\"status\":\"running\"}}");
+        }
+        return new MockResponse().setResponseCode(204);
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        ws = new MockWebServer();
+        ws.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                try {
+                    return BulkTeardownTest.this.dispatch(request);
+                } catch (IOException e) {
+                    return new MockResponse().setResponseCode(500);
+                }
+            }
+        });
+        ws.start();
+        api = ClientFactory.create(() -> "teardown-mock", ClientOptions.builder()
+                .endpoint(ws.url("/").toString())
+                .retryPolicy(RetryPolicy.NONE)
+                .build());
+        tracker = new ActionTracker(api, null, Duration.ofMillis(10), Duration.ofMillis(50));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        tracker.close();
+        ws.close();
+    }
+
+    @Test
+    public void testTeardown() throws Exception {
+        final TeardownReport report = new BulkTeardown(api, tracker, TeardownOptions.builder()
+                .requestsPerSecond(100)
+                .build()).teardown("jenkins.io/cloud=hcloud-01");
+        assertEquals(3, report.getRemovedCount(TeardownReport.ResourceType.SERVER));
+        assertEquals(1, report.getRemovedCount(TeardownReport.ResourceType.PRIMARY_IP));
+        assertEquals(1, report.getRemovedCount(TeardownReport.ResourceType.SSH_KEY));
+        assertEquals(3, report.getActions().size());
+        assertFalse(report.isSucceeded());
+        assertEquals(1, report.getFailures().size());
+        assertEquals(12L, report.getFailures().get(0).getId());
+        assertEquals(6, mutations.size());
+        // primary IPs and SSH keys are removed only after all servers are gone
+        final List<String> ordered = new ArrayList<>(mutations);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(ordered.get(i).startsWith("DELETE /v1/servers/"));
+        }
+    }
+
+    @Test
+    public void testPowerOffBeforeDelete() throws Exception {
+        final TeardownReport report = new BulkTeardown(api, tracker, TeardownOptions.builder()
+                .powerOff(true)
+                .deletePrimaryIps(false)
+                .deleteSshKeys(false)
+                .requestsPerSecond(100)
+                .build()).teardown("jenkins.io/cloud=hcloud-01");
+        assertTrue(report.isSucceeded());
+        assertEquals(6, report.getActions().size());
+        assertTrue(mutations.contains("POST /v1/servers/4711000/actions/poweroff"));
+    }
+}
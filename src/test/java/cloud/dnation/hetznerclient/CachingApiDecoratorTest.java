@@ -0,0 +1,106 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+public class CachingApiDecoratorTest {
+    private static final String IMAGE = "{\"image\":{\"id\":42,\"name\":\"ubuntu-22.04\",\"type\":\"system\"}}";
+
+    private MockWebServer ws;
+    private CachingApiDecorator caching;
+    private HetznerApi api;
+
+    @Before
+    public void setUp() throws IOException {
+        ws = new MockWebServer();
+        ws.start();
+        caching = new CachingApiDecorator(ClientFactory.create(() -> "caching-mock", ClientOptions.builder()
+                .endpoint(ws.url("/").toString())
+                .retryPolicy(RetryPolicy.NONE)
+                .build()));
+        api = caching.getApi();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        ws.close();
+    }
+
+    @Test
+    public void testResponseIsCached() throws IOException {
+        ws.enqueue(new MockResponse().setBody(IMAGE));
+        final GetImageByIdResponse first = api.getImageById(42L).execute().body();
+        final GetImageByIdResponse second = api.getImageById(42L).execute().body();
+        assertSame(first, second);
+        assertEquals("ubuntu-22.04", second.getImage().getName());
+        assertEquals(1, ws.getRequestCount());
+        assertEquals(1, caching.getStats("getImageById").hitCount());
+        assertEquals(1, caching.getStats().missCount());
+
+        caching.invalidate("getImageById");
+        ws.enqueue(new MockResponse().setBody(IMAGE));
+        api.getImageById(42L).execute();
+        assertEquals(2, ws.getRequestCount());
+    }
+
+    @Test
+    public void testErrorIsNotCached() throws IOException {
+        ws.enqueue(new MockResponse().setResponseCode(404).setBody("{}"));
+        ws.enqueue(new MockResponse().setBody(IMAGE));
+        assertFalse(api.getImageById(42L).execute().isSuccessful());
+        assertEquals(42L, api.getImageById(42L).execute().body().getImage().getId().longValue());
+        assertEquals(2, ws.getRequestCount());
+    }
+
+    @Test
+    public void testConcurrentLookupsAreCoalesced() throws Exception {
+        ws.enqueue(new MockResponse().setBody(IMAGE).setBodyDelay(200, TimeUnit.MILLISECONDS));
+        final List<CompletableFuture<Response<GetImageByIdResponse>>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(CallFutures.toResponseFuture(api.getImageById(42L)));
+        }
+        for (CompletableFuture<Response<GetImageByIdResponse>> future : futures) {
+            assertEquals("ubuntu-22.04", future.get(5, TimeUnit.SECONDS).body().getImage().getName());
+        }
+        assertEquals(1, ws.getRequestCount());
+    }
+
+    @Test
+    public void testUncachedMethodIsPassedThrough() throws IOException {
+        ws.enqueue(new MockResponse().setBody(IMAGE));
+        ws.enqueue(new MockResponse().setBody(IMAGE));
+        api.getVolumeById(1).execute();
+        api.getVolumeById(1).execute();
+        assertEquals(2, ws.getRequestCount());
+        assertEquals(0, caching.getStats().requestCount());
+    }
+}
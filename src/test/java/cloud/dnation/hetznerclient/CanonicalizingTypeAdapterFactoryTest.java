@@ -0,0 +1,111 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static cloud.dnation.hetznerclient.TestHelper.resourceAsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class CanonicalizingTypeAdapterFactoryTest {
+    private final Gson plain = new GsonBuilder()
+            .registerTypeAdapterFactory(ModelTypeAdapterFactory.INSTANCE)
+            .create();
+    private final Gson gson = plain.newBuilder()
+            .registerTypeAdapterFactory(CanonicalizingTypeAdapterFactory.INSTANCE)
+            .create();
+
+    private static String labelKey(ServerDetail server, String key) {
+        for (Map.Entry<String, String> entry : server.getLabels().entrySet()) {
+            if (entry.getKey().equals(key)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    @Test
+    public void testEqualValuesAreShared() throws IOException {
+        final String json = resourceAsString("get-servers-by-selector.json");
+        final GetServersBySelectorResponse expected = plain.fromJson(json, GetServersBySelectorResponse.class);
+        final GetServersBySelectorResponse first = gson.fromJson(json, GetServersBySelectorResponse.class);
+        final GetServersBySelectorResponse second = gson.fromJson(json, GetServersBySelectorResponse.class);
+        assertEquals(expected, first);
+
+        final ServerDetail a = first.getServers().get(0);
+        final ServerDetail c = second.getServers().get(0);
+        assertNotSame(a, c);
+        assertNotSame(a.getDatacenter(), c.getDatacenter());
+        assertSame(a.getDatacenter().getName(), c.getDatacenter().getName());
+        assertSame(a.getDatacenter().getLocation().getCity(), c.getLocation().getCity());
+        assertSame(a.getServerType().getDescription(), c.getServerType().getDescription());
+        assertSame(a.getImage().getDescription(), c.getImage().getDescription());
+        assertSame(a.getLabels(), c.getLabels());
+        assertSame(labelKey(a, "jenkins.io/cloud"), labelKey(c, "jenkins.io/cloud"));
+
+        // plain decoding is not affected
+        final ServerDetail d = plain.fromJson(json, GetServersBySelectorResponse.class).getServers().get(0);
+        assertNotSame(a.getDatacenter().getName(), d.getDatacenter().getName());
+    }
+
+    @Test
+    public void testSharedValuesCannotBeCorrupted() throws IOException {
+        final String json = resourceAsString("get-servers-by-selector.json");
+        final ServerDetail a = gson.fromJson(json, GetServersBySelectorResponse.class).getServers().get(0);
+        final String name = a.getDatacenter().getName();
+        a.getDatacenter().setName("modified");
+        a.setLabels(new HashMap<>(a.getLabels()));
+        a.getLabels().put("jenkins.io/cloud", "modified");
+        final ServerDetail c = gson.fromJson(json, GetServersBySelectorResponse.class).getServers().get(0);
+        assertEquals(name, c.getDatacenter().getName());
+        assertNotEquals("modified", c.getLabels().get("jenkins.io/cloud"));
+        try {
+            c.getLabels().put("jenkins.io/cloud", "modified");
+            fail("Canonical labels must be unmodifiable");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testClientOption() throws IOException {
+        try (MockWebServer ws = new MockWebServer()) {
+            ws.enqueue(new MockResponse().setBody(resourceAsString("get-servers-by-selector.json")));
+            ws.enqueue(new MockResponse().setBody(resourceAsString("get-servers-by-selector.json")));
+            ws.start();
+            final HetznerApi api = ClientFactory.create(() -> "canonicalizing-mock", ClientOptions.builder()
+                    .endpoint(ws.url("/").toString())
+                    .canonicalizing(true)
+                    .build());
+            final ServerDetail first = api.getServersBySelector("", 1, 50).execute().body().getServers().get(0);
+            final ServerDetail second = api.getServersBySelector("", 1, 50).execute().body().getServers().get(0);
+            assertNotSame(first, second);
+            assertSame(first.getServerType().getName(), second.getServerType().getName());
+        }
+    }
+}
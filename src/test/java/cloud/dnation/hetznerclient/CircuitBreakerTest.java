@@ -0,0 +1,158 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.base.Ticker;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static cloud.dnation.hetznerclient.TestHelper.resourceAsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
+
+public class CircuitBreakerTest {
+    private static final String ENDPOINT = "GET /v1/actions/{id}";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final CircuitBreaker breaker = new CircuitBreaker(0.5, 4, 4, Duration.ofSeconds(10), new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    });
+
+    @Test
+    public void testOpenAndRecover() {
+        final CircuitBreaker.Circuit circuit = breaker.circuit(ENDPOINT);
+        circuit.onSuccess(circuit.tryAcquire());
+        for (int i = 0; i < 2; i++) {
+            circuit.onFailure(circuit.tryAcquire());
+        }
+        // not enough requests yet
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(ENDPOINT));
+        circuit.onFailure(circuit.tryAcquire());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState(ENDPOINT));
+        assertEquals(CircuitBreaker.REJECTED, circuit.tryAcquire());
+        assertEquals(1, breaker.getRejectedCount());
+
+        // single probe after open duration, failed probe opens circuit again
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        final long probe = circuit.tryAcquire();
+        assertNotEquals(CircuitBreaker.REJECTED, probe);
+        assertEquals(CircuitBreaker.REJECTED, circuit.tryAcquire());
+        circuit.onFailure(probe);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState(ENDPOINT));
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        circuit.onSuccess(circuit.tryAcquire());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(ENDPOINT));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState("GET /v1/servers"));
+    }
+
+    @Test
+    public void testOnlyProbeDecidesHalfOpenCircuit() {
+        final CircuitBreaker.Circuit circuit = breaker.circuit(ENDPOINT);
+        // requests sent before circuit opened
+        final long slowSuccess = circuit.tryAcquire();
+        final long slowFailure = circuit.tryAcquire();
+        final long slowCanceled = circuit.tryAcquire();
+        for (int i = 0; i < 4; i++) {
+            circuit.onFailure(circuit.tryAcquire());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState(ENDPOINT));
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        final long probe = circuit.tryAcquire();
+        assertNotEquals(CircuitBreaker.REJECTED, probe);
+        circuit.onSuccess(slowSuccess);
+        circuit.onFailure(slowFailure);
+        circuit.onIgnored(slowCanceled);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState(ENDPOINT));
+        // probe is still in flight
+        assertEquals(CircuitBreaker.REJECTED, circuit.tryAcquire());
+
+        circuit.onSuccess(probe);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(ENDPOINT));
+    }
+
+    @Test
+    public void testRejectWithoutRetry() throws IOException {
+        try (MockWebServer ws = new MockWebServer()) {
+            for (int i = 0; i < 4; i++) {
+                ws.enqueue(new MockResponse().setResponseCode(503));
+            }
+            ws.enqueue(new MockResponse().setBody(resourceAsString("get-action-by-id.json")));
+            ws.start();
+            final HetznerApi api = ClientFactory.create(() -> "circuit-breaker-mock", ClientOptions.builder()
+                    .endpoint(ws.url("/").toString())
+                    .retryPolicy(RetryPolicy.builder().initialBackoff(Duration.ofMillis(1)).build())
+                    .circuitBreaker(breaker)
+                    .build());
+            // three attempts fail
+            assertEquals(503, api.getActionById(1L).execute().code());
+            // fourth attempt opens circuit, its retry is rejected
+            try {
+                api.getActionById(1L).execute();
+                fail("Expected CircuitBreakerOpenException");
+            } catch (CircuitBreakerOpenException e) {
+                assertEquals(CircuitBreaker.State.OPEN, breaker.getState(ENDPOINT));
+            }
+            try {
+                api.getActionById(1L).execute();
+                fail("Expected CircuitBreakerOpenException");
+            } catch (CircuitBreakerOpenException e) {
+                assertEquals(4, ws.getRequestCount());
+            }
+
+            nanos.addAndGet(TimeUnit.SECONDS.toNanos(10));
+            assertEquals(603984077612933L, (long) api.getActionById(1L).execute().body().getAction().getId());
+            assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(ENDPOINT));
+        }
+    }
+
+    @Test
+    public void testErrorOfProbeReleasesProbeSlot() throws IOException {
+        // requests made without Retrofit are identified by their path
+        final String endpoint = "GET /v1/actions/1";
+        final CircuitBreaker.Circuit circuit = breaker.circuit(endpoint);
+        for (int i = 0; i < 4; i++) {
+            circuit.onFailure(circuit.tryAcquire());
+        }
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        final OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(new CircuitBreakerInterceptor(breaker))
+                .addInterceptor(chain -> {
+                    throw new StackOverflowError();
+                })
+                .build();
+        try {
+            client.newCall(new Request.Builder().url("http://localhost/v1/actions/1").build()).execute();
+            fail("Expected StackOverflowError");
+        } catch (StackOverflowError e) {
+            assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState(endpoint));
+        }
+        assertNotEquals(CircuitBreaker.REJECTED, circuit.tryAcquire());
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static cloud.dnation.hetznerclient.TestHelper.resourceAsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ClientMetricsTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ClientMetrics metrics = new MicrometerClientMetrics(registry);
+    private MockWebServer ws;
+
+    @Before
+    public void setUp() throws IOException {
+        ws = new MockWebServer();
+        ws.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        ws.close();
+    }
+
+    @Test
+    public void testRequestsAndRetries() throws IOException {
+        final HetznerApi api = ClientFactory.create(() -> "metrics-mock", ClientOptions.builder()
+                .endpoint(ws.url("/").toString())
+                .retryPolicy(RetryPolicy.builder().initialBackoff(Duration.ofMillis(1)).build())
+                .metrics(metrics)
+                .build());
+        ws.enqueue(new MockResponse().setResponseCode(502));
+        ws.enqueue(new MockResponse().setBody(resourceAsString("get-network-by-id.json"))
+                .setHeader("RateLimit-Remaining", "3599"));
+        assertEquals(200, api.getNetworkById(10).execute().code());
+
+        assertEquals(1, timer("502").count());
+        assertEquals(1, timer("200").count());
+        assertEquals("SUCCESS", timer("200").getId().getTag("outcome"));
+        assertEquals(1.0, registry.get("hetzner.client.retries")
+                .tag("uri", "/v1/networks/{id}").counter().count(), 0.0);
+        assertEquals(3599.0, registry.get("hetzner.client.ratelimit.remaining")
+                .tag("client", "default").gauge().value(), 0.0);
+        assertEquals(resourceAsString("get-network-by-id.json").length(), registry.get("hetzner.client.response.size")
+                .tag("uri", "/v1/networks/{id}").summary().max(), 0.0);
+    }
+
+    @Test
+    public void testPagesPerFetch() throws IOException {
+        final HetznerApi api = ClientFactory.create(() -> "metrics-mock", ClientOptions.builder()
+                .endpoint(ws.url("/").toString())
+                .build());
+        ws.enqueue(new MockResponse().setBody(resourceAsString("paging-primary-ips-1.json")));
+        ws.enqueue(new MockResponse().setBody(resourceAsString("paging-primary-ips-2.json")));
+        final List<PrimaryIpDetail> items = PagedResourceHelper.getAllPrimaryIps(api, "",
+                PagingOptions.builder().metrics(metrics).build());
+        assertEquals(27, items.size());
+        assertEquals(2.0, registry.get("hetzner.client.pages")
+                .tags("method", "GET", "uri", "/v1/primary_ips").summary().totalAmount(), 0.0);
+        // client itself has no metrics configured
+        assertNull(registry.find("hetzner.client.requests").timer());
+    }
+
+    @Test
+    public void testOperationNameIsCached() {
+        final HetznerApi api = ClientFactory.create(() -> "metrics-mock", ClientOptions.builder()
+                .endpoint(ws.url("/").toString())
+                .build());
+        final String name = Operations.of(api.getServer(1).request());
+        assertEquals("GET /v1/servers/{id}", name);
+        assertSame(name, Operations.of(api.getServer(2).request()));
+        assertEquals("GET /v1/images", Operations.of(api.getImagesBySelector("env=prod").request()));
+    }
+
+    private Timer timer(String status) {
+        return registry.get("hetzner.client.requests")
+                .tags("method", "GET", "uri", "/v1/networks/{id}", "status", status)
+                .timer();
+    }
+
+    @Test
+    public void testRateLimitPerClient() {
+        final ClientMetrics other = new MicrometerClientMetrics(registry, "project-b");
+        metrics.recordRateLimitRemaining(3600);
+        other.recordRateLimitRemaining(12);
+        assertEquals(3600.0, registry.get("hetzner.client.ratelimit.remaining")
+                .tag("client", "default").gauge().value(), 0.0);
+        assertEquals(12.0, registry.get("hetzner.client.ratelimit.remaining")
+                .tag("client", "project-b").gauge().value(), 0.0);
+    }
+
+    @Test
+    public void testResponseSizeOfCompressedChunkedBody() throws IOException {
+        final HetznerApi api = ClientFactory.create(() -> "metrics-mock", ClientOptions.builder()
+                .endpoint(ws.url("/").toString())
+                .metrics(metrics)
+                .build());
+        final String body = resourceAsString("get-network-by-id.json");
+        final Buffer compressed = new Buffer();
+        try (BufferedSink sink = Okio.buffer(new GzipSink(compressed))) {
+            sink.writeUtf8(body);
+        }
+        ws.enqueue(new MockResponse().setChunkedBody(compressed, 64).setHeader("Content-Encoding", "gzip"));
+        assertEquals(200, api.getNetworkById(10).execute().code());
+
+        assertEquals(1, timer("200").count());
+        assertEquals(body.getBytes(StandardCharsets.UTF_8).length, registry.get("hetzner.client.response.size")
+                .tag("uri", "/v1/networks/{id}").summary().max(), 0.0);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static cloud.dnation.hetznerclient.TestHelper.resourceAsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ConcurrencyLimiterTest {
+    private static final String OPERATION = "GET /v1/servers/{id}";
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(20);
+
+    @Test
+    public void testAdditiveIncreaseMultiplicativeDecrease() {
+        final ConcurrencyLimiter limiter = new ConcurrencyLimiter(4, 1, 10);
+        // limit grows only while at least half of it is used
+        assertTrue(limiter.tryAcquire());
+        limiter.onSuccess(OPERATION, RTT);
+        assertEquals(4, limiter.getLimit());
+        for (int i = 0; i < 20; i++) {
+            for (int j = 0; j < 4; j++) {
+                assertTrue(limiter.tryAcquire());
+            }
+            for (int j = 0; j < 4; j++) {
+                limiter.onSuccess(OPERATION, RTT);
+            }
+        }
+        assertEquals(8, limiter.getLimit());
+
+        assertTrue(limiter.tryAcquire());
+        limiter.onDropped();
+        assertEquals(7, limiter.getLimit());
+
+        // round-trip time well above baseline means overload
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        limiter.onSuccess(OPERATION, RTT * 3);
+        assertEquals(6, limiter.getLimit());
+        limiter.onIgnored();
+        limiter.onIgnored();
+        limiter.onIgnored();
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void testRejectAboveLimit() throws Exception {
+        try (MockWebServer ws = new MockWebServer()) {
+            ws.enqueue(new MockResponse()
+                    .setBody(resourceAsString("get-action-by-id.json"))
+                    .setHeadersDelay(500, TimeUnit.MILLISECONDS));
+            ws.start();
+            final ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1, 1);
+            final HetznerApi api = ClientFactory.create(() -> "concurrency-limiter-mock", ClientOptions.builder()
+                    .endpoint(ws.url("/").toString())
+                    .concurrencyLimiter(limiter)
+                    .build());
+            final CompletableFuture<ActionResponse> first = CallFutures.toFuture(api.getActionById(1L));
+            ws.takeRequest(5, TimeUnit.SECONDS);
+            try {
+                api.getActionById(1L).execute();
+                fail("Expected ConcurrencyLimitExceededException");
+            } catch (ConcurrencyLimitExceededException e) {
+                assertEquals(1, limiter.getRejectedCount());
+            }
+            assertEquals(603984077612933L, (long) first.get(5, TimeUnit.SECONDS).getAction().getId());
+            assertEquals(1, ws.getRequestCount());
+            assertEquals(0, limiter.getInFlight());
+            assertFalse(limiter.getLimit() > 1);
+        }
+    }
+}
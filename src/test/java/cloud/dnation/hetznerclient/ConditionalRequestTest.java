@@ -0,0 +1,100 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import retrofit2.Response;
+
+import java.io.IOException;
+
+import static cloud.dnation.hetznerclient.TestHelper.resourceAsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ConditionalRequestTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private MockWebServer ws;
+
+    @Before
+    public void setUp() throws IOException {
+        ws = new MockWebServer();
+        ws.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        ws.close();
+    }
+
+    private HetznerApi api(ClientOptions.ClientOptionsBuilder builder) {
+        return ClientFactory.create(() -> "conditional-mock", builder
+                .endpoint(ws.url("/").toString())
+                .retryPolicy(RetryPolicy.NONE)
+                .build());
+    }
+
+    @Test
+    public void testNotModifiedReturnsDecodedBody() throws Exception {
+        final HetznerApi api = api(ClientOptions.builder().conditionalRequests(true));
+        ws.enqueue(new MockResponse()
+                .setHeader("ETag", "\"v1\"")
+                .setBody(resourceAsString("get-network-by-id.json")));
+        ws.enqueue(new MockResponse().setResponseCode(304).setHeader("ETag", "\"v1\""));
+
+        final GetNetworkByIdResponse first = api.getNetworkById(10).execute().body();
+        final Response<GetNetworkByIdResponse> second = api.getNetworkById(10).execute();
+        assertEquals(200, second.code());
+        assertSame(first, second.body());
+
+        assertNull(ws.takeRequest().getHeader("If-None-Match"));
+        assertEquals("\"v1\"", ws.takeRequest().getHeader("If-None-Match"));
+    }
+
+    @Test
+    public void testNoValidatorsWithoutETag() throws Exception {
+        final HetznerApi api = api(ClientOptions.builder().conditionalRequests(true));
+        ws.enqueue(new MockResponse().setBody(resourceAsString("get-network-by-id.json")));
+        ws.enqueue(new MockResponse().setBody(resourceAsString("get-network-by-id.json")));
+        api.getNetworkById(11).execute();
+        api.getNetworkById(11).execute();
+        ws.takeRequest();
+        final RecordedRequest second = ws.takeRequest();
+        assertNull(second.getHeader("If-None-Match"));
+        assertNull(second.getHeader("If-Modified-Since"));
+    }
+
+    @Test
+    public void testDiskCache() throws IOException {
+        final HetznerApi api = api(ClientOptions.builder().cacheDirectory(folder.getRoot()));
+        ws.enqueue(new MockResponse()
+                .setHeader("Cache-Control", "max-age=60")
+                .setBody(resourceAsString("get-network-by-id.json")));
+        final GetNetworkByIdResponse first = api.getNetworkById(10).execute().body();
+        final GetNetworkByIdResponse second = api.getNetworkById(10).execute().body();
+        assertEquals(first, second);
+        assertEquals(1, ws.getRequestCount());
+    }
+}
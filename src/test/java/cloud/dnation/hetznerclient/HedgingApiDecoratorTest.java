@@ -0,0 +1,176 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static cloud.dnation.hetznerclient.TestHelper.resourceAsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class HedgingApiDecoratorTest {
+    /**
+     * Ordinal of first request after warm-up, counted from 1.
+     */
+    private static final int FIRST = HedgingApiDecorator.MIN_SAMPLES + 1;
+
+    private MockWebServer ws;
+    private HetznerApi delegate;
+    private String body;
+    /**
+     * Responses to requests with given ordinal, other requests are answered immediately.
+     */
+    private final Map<Integer, MockResponse> responses = new ConcurrentHashMap<>();
+
+    @Before
+    public void setUp() throws IOException {
+        body = resourceAsString("get-action-by-id.json");
+        final AtomicInteger requests = new AtomicInteger();
+        ws = new MockWebServer();
+        // latency of warm-up requests must not be dominated by delayed ACK
+        ws.setServerSocketFactory(new NoDelayServerSocketFactory());
+        ws.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                final MockResponse response = responses.get(requests.incrementAndGet());
+                return response != null ? response : new MockResponse().setBody(body);
+            }
+        });
+        ws.start();
+        delegate = ClientFactory.create(() -> "hedging-mock", ClientOptions.builder()
+                .endpoint(ws.url("/").toString())
+                .retryPolicy(RetryPolicy.NONE)
+                .build());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        ws.close();
+    }
+
+    private MockResponse slow(long delayMs) {
+        return new MockResponse().setBody(body).setHeadersDelay(delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private static void warmUp(HetznerApi api) throws IOException {
+        for (int i = 0; i < HedgingApiDecorator.MIN_SAMPLES; i++) {
+            api.getActionById(1L).execute();
+        }
+    }
+
+    @Test
+    public void testSlowRequestIsHedged() throws IOException {
+        final HedgingApiDecorator hedging = new HedgingApiDecorator(delegate);
+        final HetznerApi api = hedging.getApi();
+        warmUp(api);
+        assertEquals(0, hedging.getHedgedCount());
+
+        responses.put(FIRST, slow(600));
+        final long start = System.nanoTime();
+        assertEquals(603984077612933L, (long) api.getActionById(1L).execute().body().getAction().getId());
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500));
+        assertEquals(1, hedging.getHedgedCount());
+        assertEquals(1, hedging.getHedgeWonCount());
+    }
+
+    @Test
+    public void testSlowAsyncRequestIsHedged() throws Exception {
+        final HedgingApiDecorator hedging = new HedgingApiDecorator(delegate);
+        final HetznerApi api = hedging.getApi();
+        warmUp(api);
+
+        responses.put(FIRST, slow(600));
+        final CompletableFuture<ActionResponse> future = CallFutures.toFuture(api.getActionById(1L));
+        assertEquals(603984077612933L, (long) future.get(500, TimeUnit.MILLISECONDS).getAction().getId());
+        assertEquals(1, hedging.getHedgeWonCount());
+    }
+
+    @Test
+    public void testHedgeWinsOverServerError() throws IOException {
+        final HedgingApiDecorator hedging = new HedgingApiDecorator(delegate);
+        final HetznerApi api = hedging.getApi();
+        warmUp(api);
+
+        // primary fails while hedged request is still pending
+        responses.put(FIRST, new MockResponse().setResponseCode(503).setHeadersDelay(100, TimeUnit.MILLISECONDS));
+        responses.put(FIRST + 1, slow(200));
+        assertEquals(200, api.getActionById(1L).execute().code());
+        assertEquals(1, hedging.getHedgeWonCount());
+
+        // both fail, error response is returned
+        responses.put(FIRST + 2, new MockResponse().setResponseCode(503).setHeadersDelay(100, TimeUnit.MILLISECONDS));
+        responses.put(FIRST + 3, new MockResponse().setResponseCode(502));
+        assertTrue(api.getActionById(1L).execute().code() >= 500);
+    }
+
+    @Test
+    public void testListsAreNotHedged() throws IOException {
+        final HetznerApi api = new HedgingApiDecorator(delegate).getApi();
+        assertFalse(api.getServersBySelector("", 1, 50) instanceof HedgedCall);
+        assertTrue(api.getServer(1L) instanceof HedgedCall);
+    }
+
+    @Test
+    public void testListPagesCanBeHedged() throws IOException {
+        final HedgingApiDecorator hedging = new HedgingApiDecorator(delegate, 0.95, Duration.ofMillis(10),
+                new RetryBudget(0.05, 5, 10), HedgingApiDecorator.LIST_PAGE_METHODS);
+        final HetznerApi api = hedging.getApi();
+        assertFalse(api.getServer(1L) instanceof HedgedCall);
+        body = resourceAsString("get-servers-by-selector.json");
+        for (int i = 0; i < HedgingApiDecorator.MIN_SAMPLES; i++) {
+            api.getServersBySelector("", 1, 50).execute();
+        }
+
+        responses.put(FIRST, slow(600));
+        final long start = System.nanoTime();
+        assertEquals(3, api.getServersBySelector("", 1, 50).execute().body().getServers().size());
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500));
+        assertEquals(1, hedging.getHedgeWonCount());
+    }
+
+    @Test
+    public void testBudgetLimitsHedging() throws IOException {
+        final HedgingApiDecorator hedging = new HedgingApiDecorator(delegate, 0.5, Duration.ZERO,
+                new RetryBudget(0, 1));
+        final HetznerApi api = hedging.getApi();
+        warmUp(api);
+        // hedged request of first call is slow too, so remaining calls find budget empty
+        for (int i = 0; i < 4; i++) {
+            responses.put(FIRST + i, slow(100));
+        }
+        for (int i = 0; i < 3; i++) {
+            api.getActionById(1L).execute();
+        }
+        assertEquals(1, hedging.getHedgedCount());
+        assertEquals(2, hedging.getBudgetRejectedCount());
+        assertEquals(FIRST + 3, ws.getRequestCount());
+    }
+}
@@ -0,0 +1,519 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.Resources;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import lombok.Builder;
+import lombok.Value;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Stateful in-process simulator of Hetzner Cloud API, backed by {@link MockWebServer}.
+ * <p>Simulates endpoints which {@link HetznerApi} calls: servers and SSH keys can be created, listed and deleted,
+ * server creation, power off and deletion start actions which progress over time. Primary IPs, volumes, networks
+ * and firewalls can only be {@link #seed(String, int, Map) seeded}, listed, looked up by ID and deleted,
+ * as client has no endpoints to create them. Listing supports label selector and pagination.
+ * Every response is delayed according to log-normal latency distribution and counted against per-token
+ * rate limit, which is reported using {@code RateLimit-*} headers and enforced with HTTP 429.
+ * Fraction of requests can fail with HTTP 503.</p>
+ * <p>Pages are indexed from zero, same as {@link PagedResourceHelper} requests them.</p>
+ */
+public class HetznerSimulator extends Dispatcher implements Closeable {
+    private static final Map<String, String> SINGULAR = ImmutableMap.<String, String>builder()
+            .put("servers", "server")
+            .put("primary_ips", "primary_ip")
+            .put("volumes", "volume")
+            .put("networks", "network")
+            .put("firewalls", "firewall")
+            .put("ssh_keys", "ssh_key")
+            .put("actions", "action")
+            .build();
+
+    @Value
+    @Builder(toBuilder = true)
+    public static class Options {
+        /**
+         * Median of response latency.
+         */
+        @Builder.Default
+        Duration medianLatency = Duration.ofMillis(20);
+
+        /**
+         * Standard deviation of logarithm of latency, zero makes latency constant.
+         */
+        @Builder.Default
+        double latencySigma = 0.5;
+
+        /**
+         * Size of rate limit bucket of each token.
+         */
+        @Builder.Default
+        int rateLimit = 3600;
+
+        /**
+         * Number of requests added to bucket per second.
+         */
+        @Builder.Default
+        double refillPerSecond = 1.0;
+
+        /**
+         * Fraction of requests (0.0 - 1.0) answered by HTTP 503.
+         */
+        double errorRate;
+
+        /**
+         * Time it takes for action to finish and for new server to become running.
+         */
+        @Builder.Default
+        Duration actionDuration = Duration.ofSeconds(1);
+
+        /**
+         * Maximum number of items per page.
+         */
+        @Builder.Default
+        int maxPerPage = 50;
+    }
+
+    private final Options options;
+    private final MockWebServer ws = new MockWebServer();
+    private final Map<String, JsonObject> templates = new HashMap<>();
+    private final Map<String, TreeMap<Long, JsonObject>> resources = new HashMap<>();
+    private final TreeMap<Long, Action> actions = new TreeMap<>();
+    private final Map<Long, Long> serverReadyAt = new HashMap<>();
+    private final Map<String, Bucket> buckets = new HashMap<>();
+    private final AtomicLong ids = new AtomicLong(1_000_000);
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public HetznerSimulator(Options options) {
+        this.options = options;
+        templates.put("servers", template("get-servers-by-selector.json", "servers"));
+        templates.put("firewalls", template("get-firewalls-by-selector.json", "firewalls"));
+        templates.put("networks", template("get-networks-by-selector.json", "networks"));
+        templates.put("primary_ips", JsonParser.parseString("{\"ip\":\"1.2.3.4\",\"type\":\"ipv4\","
+                + "\"assignee_type\":\"server\",\"auto_delete\":true,\"blocked\":false}").getAsJsonObject());
+        templates.put("volumes", JsonParser.parseString("{\"size\":10,\"format\":\"ext4\",\"status\":\"available\","
+                + "\"linux_device\":\"/dev/disk/by-id/scsi-0HC_Volume_1\"}").getAsJsonObject());
+        templates.put("ssh_keys", JsonParser.parseString("{\"fingerprint\":\"b7:2f:30:a0:2f:6c:58:6c\","
+                + "\"public_key\":\"ssh-rsa AAAjjk76kgf...Xt\"}").getAsJsonObject());
+        SINGULAR.keySet().stream().filter(t -> !"actions".equals(t))
+                .forEach(t -> resources.put(t, new TreeMap<>()));
+        ws.setDispatcher(this);
+        ws.setServerSocketFactory(new NoDelayServerSocketFactory());
+    }
+
+    /**
+     * Start simulator.
+     *
+     * @return base URL of API
+     * @throws IOException when server can't be started
+     */
+    public String start() throws IOException {
+        ws.start();
+        return ws.url("/").toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        ws.close();
+    }
+
+    /**
+     * Create resources.
+     *
+     * @param type resource type as it appears in path, such as {@code servers}
+     * @param count number of resources to create
+     * @param labels labels of resources
+     */
+    public synchronized void seed(String type, int count, Map<String, String> labels) {
+        for (int i = 0; i < count; i++) {
+            create(type, type + "-" + ids.get(), labels);
+        }
+    }
+
+    /**
+     * Get number of resources of given type.
+     *
+     * @param type resource type as it appears in path, such as {@code servers}
+     * @return number of resources
+     */
+    public synchronized int count(String type) {
+        return resources.get(type).size();
+    }
+
+    public int getRequestCount() {
+        return ws.getRequestCount();
+    }
+
+    /**
+     * Get number of requests rejected with HTTP 429.
+     *
+     * @return number of throttled requests
+     */
+    public long getThrottledCount() {
+        return throttled.get();
+    }
+
+    /**
+     * Get number of requests failed with HTTP 503.
+     *
+     * @return number of failed requests
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    @Override
+    public MockResponse dispatch(RecordedRequest request) {
+        final MockResponse response = handle(request);
+        final double factor = Math.exp(options.getLatencySigma() * ThreadLocalRandom.current().nextGaussian());
+        return response
+                .setHeader("Content-Type", "application/json")
+                .setHeadersDelay((long) (options.getMedianLatency().toMillis() * factor), TimeUnit.MILLISECONDS);
+    }
+
+    private MockResponse handle(RecordedRequest request) {
+        final Bucket bucket;
+        final boolean allowed;
+        synchronized (this) {
+            bucket = buckets.computeIfAbsent(String.valueOf(request.getHeader("Authorization")), k -> new Bucket());
+            allowed = bucket.tryTake();
+        }
+        if (!allowed) {
+            throttled.incrementAndGet();
+            return bucket.headers(error(429, "rate_limit_exceeded", "limit of requests per hour reached"));
+        }
+        if (options.getErrorRate() > 0 && ThreadLocalRandom.current().nextDouble() < options.getErrorRate()) {
+            failed.incrementAndGet();
+            return bucket.headers(error(503, "unavailable", "service temporarily unavailable"));
+        }
+        final HttpUrl url = request.getRequestUrl();
+        final List<String> path = url.pathSegments().subList(1, url.pathSize());
+        final MockResponse response;
+        synchronized (this) {
+            response = route(request.getMethod(), path, url, request.getBody().readUtf8());
+        }
+        return bucket.headers(response);
+    }
+
+    private MockResponse route(String method, List<String> path, HttpUrl url, String body) {
+        if (path.isEmpty() || !SINGULAR.containsKey(path.get(0))) {
+            return error(404, "not_found", "unknown endpoint");
+        }
+        final String type = path.get(0);
+        final Long id = path.size() > 1 ? parseId(path.get(1)) : null;
+        switch (method) {
+            case "GET":
+                if (path.size() == 1) {
+                    return list(type, url);
+                }
+                return id == null || path.size() > 2 ? error(404, "not_found", "unknown endpoint") : get(type, id);
+            case "POST":
+                if (path.size() == 1 && "servers".equals(type)) {
+                    return createServer(JsonParser.parseString(body).getAsJsonObject());
+                }
+                if (path.size() == 1 && "ssh_keys".equals(type)) {
+                    final JsonObject request = JsonParser.parseString(body).getAsJsonObject();
+                    final JsonObject key = create(type, request.get("name").getAsString(), labels(request));
+                    key.add("public_key", request.get("public_key"));
+                    return json(201, wrap("ssh_key", key));
+                }
+                if (path.size() == 4 && "servers".equals(type) && "actions".equals(path.get(2))) {
+                    return serverAction(id, path.get(3));
+                }
+                return error(404, "not_found", "unknown endpoint");
+            case "DELETE":
+                return id == null || path.size() > 2 ? error(404, "not_found", "unknown endpoint") : delete(type, id);
+            default:
+                return error(405, "method_not_allowed", method + " is not allowed");
+        }
+    }
+
+    private MockResponse list(String type, HttpUrl url) {
+        final List<JsonObject> items;
+        if ("actions".equals(type)) {
+            items = url.queryParameterValues("id").stream()
+                    .map(HetznerSimulator::parseId)
+                    .filter(actions::containsKey)
+                    .map(id -> actions.get(id).toJson())
+                    .collect(Collectors.toList());
+        } else {
+            final LabelSelector selector = LabelSelector.parse(url.queryParameter("label_selector"));
+            items = resources.get(type).values().stream()
+                    .filter(item -> selector.matches(labelsOf(item)))
+                    .map(item -> "servers".equals(type) ? withServerStatus(item) : item)
+                    .collect(Collectors.toList());
+        }
+        final int perPage = Math.max(1, Math.min(options.getMaxPerPage(), intParameter(url, "per_page", 25)));
+        final int page = Math.max(0, intParameter(url, "page", 0));
+        final int lastPage = Math.max(1, (items.size() + perPage - 1) / perPage);
+        final JsonArray array = new JsonArray();
+        items.subList(Math.min(items.size(), page * perPage), Math.min(items.size(), (page + 1) * perPage))
+                .forEach(array::add);
+        final JsonObject pagination = new JsonObject();
+        pagination.addProperty("page", page + 1);
+        pagination.addProperty("per_page", perPage);
+        pagination.add("previous_page", page > 0 ? new JsonPrimitive(page) : JsonNull.INSTANCE);
+        pagination.add("next_page", page + 1 < lastPage ? new JsonPrimitive(page + 2) : JsonNull.INSTANCE);
+        pagination.addProperty("last_page", lastPage);
+        pagination.addProperty("total_entries", items.size());
+        final JsonObject meta = new JsonObject();
+        meta.add("pagination", pagination);
+        final JsonObject result = new JsonObject();
+        result.add(type, array);
+        result.add("meta", meta);
+        return json(200, result);
+    }
+
+    private MockResponse get(String type, long id) {
+        if ("actions".equals(type)) {
+            final Action action = actions.get(id);
+            return action == null ? notFound(type, id) : json(200, wrap("action", action.toJson()));
+        }
+        final JsonObject item = resources.get(type).get(id);
+        if (item == null) {
+            return notFound(type, id);
+        }
+        return json(200, wrap(SINGULAR.get(type), "servers".equals(type) ? withServerStatus(item) : item));
+    }
+
+    private MockResponse createServer(JsonObject request) {
+        final JsonObject server = create("servers", request.get("name").getAsString(), labels(request));
+        server.addProperty("status", "initializing");
+        serverReadyAt.put(server.get("id").getAsLong(), System.nanoTime() + options.getActionDuration().toNanos());
+        final JsonObject result = wrap("server", withServerStatus(server));
+        result.add("action", newAction("create_server", server).toJson());
+        final JsonArray nextActions = new JsonArray();
+        nextActions.add(newAction("start_server", server).toJson());
+        result.add("next_actions", nextActions);
+        result.add("root_password", JsonNull.INSTANCE);
+        return json(201, result);
+    }
+
+    private MockResponse serverAction(Long id, String command) {
+        final JsonObject server = id != null ? resources.get("servers").get(id) : null;
+        if (server == null) {
+            return notFound("servers", id);
+        }
+        if ("poweroff".equals(command)) {
+            server.addProperty("status", "off");
+            serverReadyAt.remove(id);
+        }
+        return json(201, wrap("action", newAction(command, server).toJson()));
+    }
+
+    private MockResponse delete(String type, long id) {
+        final TreeMap<Long, JsonObject> items = resources.get(type);
+        final JsonObject item = items == null ? null : items.remove(id);
+        if (item == null) {
+            return notFound(type, id);
+        }
+        if ("servers".equals(type)) {
+            serverReadyAt.remove(id);
+            return json(200, wrap("action", newAction("delete_server", item).toJson()));
+        }
+        return new MockResponse().setResponseCode(204);
+    }
+
+    private JsonObject create(String type, String name, Map<String, String> labels) {
+        final long id = ids.incrementAndGet();
+        final JsonObject item = templates.get(type).deepCopy();
+        item.addProperty("id", id);
+        item.addProperty("name", name);
+        item.addProperty("created", Instant.now().toString());
+        final JsonObject labelsJson = new JsonObject();
+        labels.forEach(labelsJson::addProperty);
+        item.add("labels", labelsJson);
+        resources.get(type).put(id, item);
+        return item;
+    }
+
+    private JsonObject withServerStatus(JsonObject server) {
+        final Long readyAt = serverReadyAt.get(server.get("id").getAsLong());
+        if (readyAt != null && System.nanoTime() - readyAt >= 0) {
+            server.addProperty("status", "running");
+            serverReadyAt.remove(server.get("id").getAsLong());
+        }
+        return server;
+    }
+
+    private Action newAction(String command, JsonObject resource) {
+        final Action action = new Action(ids.incrementAndGet(), command, resource.get("id").getAsLong(),
+                System.nanoTime());
+        actions.put(action.id, action);
+        return action;
+    }
+
+    private static Map<String, String> labelsOf(JsonObject item) {
+        final JsonElement labels = item.get("labels");
+        if (labels == null || !labels.isJsonObject()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, String> result = new HashMap<>();
+        labels.getAsJsonObject().entrySet().forEach(e -> result.put(e.getKey(), e.getValue().getAsString()));
+        return result;
+    }
+
+    private static Map<String, String> labels(JsonObject request) {
+        return request.has("labels") && request.get("labels").isJsonObject()
+                ? labelsOf(request) : Collections.emptyMap();
+    }
+
+    private static JsonObject wrap(String name, JsonElement element) {
+        final JsonObject result = new JsonObject();
+        result.add(name, element);
+        return result;
+    }
+
+    private static MockResponse json(int code, JsonObject body) {
+        return new MockResponse().setResponseCode(code).setBody(body.toString());
+    }
+
+    private static MockResponse notFound(String type, Long id) {
+        return error(404, "not_found", SINGULAR.get(type) + " with ID " + id + " not found");
+    }
+
+    private static MockResponse error(int code, String errorCode, String message) {
+        final JsonObject error = new JsonObject();
+        error.addProperty("code", errorCode);
+        error.addProperty("message", message);
+        return json(code, wrap("error", error));
+    }
+
+    private static Long parseId(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static int intParameter(HttpUrl url, String name, int defaultValue) {
+        final String value = url.queryParameter(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private static JsonObject template(String resource, String arrayName) {
+        try {
+            final String json = Resources.toString(Resources.getResource(resource), StandardCharsets.UTF_8);
+            return JsonParser.parseString(json).getAsJsonObject().getAsJsonArray(arrayName).get(0).getAsJsonObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private class Action {
+        private final long id;
+        private final String command;
+        private final long resourceId;
+        private final long startedNanos;
+        private final String started = Instant.now().toString();
+
+        Action(long id, String command, long resourceId, long startedNanos) {
+            this.id = id;
+            this.command = command;
+            this.resourceId = resourceId;
+            this.startedNanos = startedNanos;
+        }
+
+        JsonObject toJson() {
+            final long duration = Math.max(1, options.getActionDuration().toNanos());
+            final int progress = (int) Math.min(100, (System.nanoTime() - startedNanos) * 100 / duration);
+            final JsonObject json = new JsonObject();
+            json.addProperty("id", id);
+            json.addProperty("command", command);
+            json.addProperty("status", progress >= 100 ? ActionTracker.STATUS_SUCCESS : "running");
+            json.addProperty("progress", progress);
+            json.addProperty("started", started);
+            if (progress >= 100) {
+                json.addProperty("finished", Instant.now().toString());
+            } else {
+                json.add("finished", JsonNull.INSTANCE);
+            }
+            final JsonObject resource = new JsonObject();
+            resource.addProperty("id", resourceId);
+            resource.addProperty("type", "server");
+            final JsonArray resources = new JsonArray();
+            resources.add(resource);
+            json.add("resources", resources);
+            json.add("error", JsonNull.INSTANCE);
+            return json;
+        }
+    }
+
+    /**
+     * Rate limit bucket of single token, guarded by simulator.
+     */
+    private class Bucket {
+        private double tokens = options.getRateLimit();
+        private long lastRefill = System.nanoTime();
+        private long remaining;
+
+        boolean tryTake() {
+            final long now = System.nanoTime();
+            tokens = Math.min(options.getRateLimit(),
+                    tokens + (now - lastRefill) / 1e9 * options.getRefillPerSecond());
+            lastRefill = now;
+            final boolean allowed = tokens >= 1;
+            if (allowed) {
+                tokens -= 1;
+            }
+            remaining = (long) Math.floor(tokens);
+            return allowed;
+        }
+
+        MockResponse headers(MockResponse response) {
+            final long remaining;
+            synchronized (HetznerSimulator.this) {
+                remaining = this.remaining;
+            }
+            final double missing = options.getRateLimit() - remaining;
+            final long reset = Instant.now().getEpochSecond()
+                    + (long) Math.ceil(missing / Math.max(options.getRefillPerSecond(), 1e-9));
+            return response
+                    .setHeader(RateLimitGovernor.HEADER_LIMIT, options.getRateLimit())
+                    .setHeader(RateLimitGovernor.HEADER_REMAINING, remaining)
+                    .setHeader(RateLimitGovernor.HEADER_RESET, reset);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.gson.Gson;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static cloud.dnation.hetznerclient.TestHelper.resourceAsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class InventoryMirrorTest {
+    private static final String EMPTY_PAGE = "{\"%s\":[],\"meta\":{\"pagination\":{\"page\":1,\"per_page\":25,"
+            + "\"last_page\":1,\"total_entries\":0}}}";
+
+    private final Gson gson = new Gson();
+    private final AtomicReference<String> servers = new AtomicReference<>();
+    private final AtomicReference<String> failingPath = new AtomicReference<>();
+    private MockWebServer ws;
+    private InventoryMirror mirror;
+
+    @Before
+    public void setUp() throws IOException {
+        servers.set(resourceAsString("get-servers-by-selector.json"));
+        ws = new MockWebServer();
+        ws.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                final String path = request.getRequestUrl().encodedPath();
+                if (path.equals(failingPath.get())) {
+                    return new MockResponse().setResponseCode(500)
+                            .setBody("{\"error\":{\"code\":\"server_error\",\"message\":\"failed\"}}");
+                }
+                if (path.equals("/v1/servers")) {
+                    return new MockResponse().setBody(servers.get());
+                }
+                final String collection = path.substring(path.lastIndexOf('/') + 1);
+                return new MockResponse().setBody(String.format(EMPTY_PAGE, collection));
+            }
+        });
+        ws.start();
+        mirror = new InventoryMirror(ClientFactory.create(() -> "mirror-mock", ClientOptions.builder()
+                .endpoint(ws.url("/").toString())
+                .build()), null);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        mirror.close();
+        ws.close();
+    }
+
+    @Test
+    public void testRefreshPublishesSnapshotAndEvents() throws IOException {
+        final List<String> events = new ArrayList<>();
+        mirror.servers().addListener(new MirrorListener<ServerDetail>() {
+            @Override
+            public void onAdded(ServerDetail server) {
+                events.add("added " + server.getId());
+            }
+
+            @Override
+            public void onChanged(ServerDetail previous, ServerDetail current) {
+                events.add("changed " + current.getId() + " " + previous.getStatus() + "->" + current.getStatus());
+            }
+
+            @Override
+            public void onRemoved(ServerDetail server) {
+                events.add("removed " + server.getId());
+            }
+        });
+        assertNull(mirror.servers().getSnapshot().getRefreshedAt());
+
+        mirror.refresh();
+        final ResourceMirror.Snapshot<ServerDetail> first = mirror.servers().getSnapshot();
+        assertNotNull(first.getRefreshedAt());
+        assertEquals(3, first.size());
+        assertEquals(3, first.findByLabel("jenkins.io/cloud", "hcloud-01").size());
+        assertEquals(3, first.findByLabelKey("jenkins.io/managed-by").size());
+        assertTrue(first.findByLabel("jenkins.io/cloud", "other").isEmpty());
+        assertEquals("jenkins-agent-1", first.get(4711001L).getName());
+        assertEquals(0, mirror.firewalls().getSnapshot().size());
+        assertEquals(3, events.size());
+
+        // server 4711001 is gone, server 4711002 finished booting
+        final GetServersBySelectorResponse response = gson.fromJson(servers.get(), GetServersBySelectorResponse.class);
+        response.getServers().remove(1);
+        response.getServers().get(1).setStatus("running");
+        servers.set(gson.toJson(response));
+        events.clear();
+
+        mirror.refresh();
+        final ResourceMirror.Snapshot<ServerDetail> second = mirror.servers().getSnapshot();
+        assertEquals(2, second.size());
+        assertNull(second.get(4711001L));
+        assertEquals("running", second.get(4711002L).getStatus());
+        assertTrue(events.contains("removed 4711001"));
+        assertTrue(events.contains("changed 4711002 initializing->running"));
+        assertEquals(2, events.size());
+        // previous snapshot is unaffected
+        assertEquals(3, first.size());
+        assertEquals("initializing", first.get(4711002L).getStatus());
+    }
+
+    @Test
+    public void testStaleFetchIsDiscarded() throws Exception {
+        final ServerDetail older = new ServerDetail();
+        older.setId(1L);
+        final ServerDetail newer = new ServerDetail();
+        newer.setId(2L);
+        final CountDownLatch fetching = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger fetches = new AtomicInteger();
+        final ResourceMirror<ServerDetail> servers = new ResourceMirror<>("servers", () -> {
+            if (fetches.incrementAndGet() == 1) {
+                fetching.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return Collections.singletonList(older);
+            }
+            return Collections.singletonList(newer);
+        }, ServerDetail::getLabels);
+        final List<String> events = new ArrayList<>();
+        servers.addListener(new MirrorListener<ServerDetail>() {
+            @Override
+            public void onAdded(ServerDetail server) {
+                events.add("added " + server.getId());
+            }
+
+            @Override
+            public void onRemoved(ServerDetail server) {
+                events.add("removed " + server.getId());
+            }
+        });
+        final Thread slow = new Thread(() -> {
+            try {
+                servers.refresh();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        slow.start();
+        fetching.await();
+        servers.refresh();
+        release.countDown();
+        slow.join();
+        assertNotNull(servers.getSnapshot().get(2L));
+        assertEquals(Collections.singletonList("added 2"), events);
+    }
+
+    @Test
+    public void testFailedMirrorDoesNotStopOthers() throws IOException {
+        failingPath.set("/v1/servers");
+        try {
+            mirror.refresh();
+            fail("Expected refresh to fail");
+        } catch (RuntimeException e) {
+            assertNull(mirror.servers().getSnapshot().getRefreshedAt());
+            assertNotNull(mirror.primaryIps().getSnapshot().getRefreshedAt());
+            assertNotNull(mirror.volumes().getSnapshot().getRefreshedAt());
+            assertNotNull(mirror.networks().getSnapshot().getRefreshedAt());
+            assertNotNull(mirror.firewalls().getSnapshot().getRefreshedAt());
+        }
+
+        failingPath.set(null);
+        mirror.refresh();
+        assertEquals(3, mirror.servers().getSnapshot().size());
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.Test;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static cloud.dnation.hetznerclient.TestHelper.resourceAsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class LabelSelectorTest {
+    private final Gson gson = new Gson();
+
+    /**
+     * Differential case: response of API to listing servers of {@code label-selector-servers.json}
+     * filtered by selector.
+     */
+    private static class SelectorCase {
+        String selector;
+        JsonObject response;
+    }
+
+    @Test
+    public void testParse() {
+        final LabelSelector selector = LabelSelector.parse(" env in ( prod , staging ),tier!=db, !canary,team");
+        assertEquals(4, selector.getRequirements().size());
+        assertEquals(LabelSelector.Operator.IN, selector.getRequirements().get(0).getOperator());
+        assertEquals("env in (prod,staging),tier!=db,!canary,team", selector.toString());
+        assertEquals(selector, LabelSelector.parse(selector.toString()));
+        assertTrue(LabelSelector.parse("jenkins.io/cloud==hcloud-01").matches(
+                Collections.singletonMap("jenkins.io/cloud", "hcloud-01")));
+        assertTrue(LabelSelector.parse(null).matches(null));
+        assertFalse(LabelSelector.parse("env").matches(null));
+    }
+
+    @Test
+    public void testParseInvalid() {
+        for (String invalid : new String[]{"env=prod,", "=prod", "env in prod", "env in (prod", "env!prod", "a b"}) {
+            try {
+                LabelSelector.parse(invalid);
+                fail("Expected failure for " + invalid);
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testSelectionAgreesWithApi() throws IOException {
+        final List<ServerDetail> servers = gson.fromJson(resourceAsString("label-selector-servers.json"),
+                GetServersBySelectorResponse.class).getServers();
+        final List<SelectorCase> cases = gson.fromJson(resourceAsString("label-selector-cases.json"),
+                new TypeToken<List<SelectorCase>>() {
+                }.getType());
+        final Map<String, String> responses = cases.stream()
+                .collect(Collectors.toMap(c -> c.selector, c -> c.response.toString()));
+        final ResourceMirror.Snapshot<ServerDetail> snapshot = new ResourceMirror.Snapshot<>(
+                servers, ServerDetail::getLabels, null);
+        assertEquals(6, snapshot.size());
+        try (MockWebServer ws = new MockWebServer()) {
+            ws.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    final String body = responses.get(request.getRequestUrl().queryParameter("label_selector"));
+                    return body != null ? new MockResponse().setBody(body) : new MockResponse().setResponseCode(400);
+                }
+            });
+            ws.start();
+            final HetznerApi api = ClientFactory.create(() -> "label-selector-mock", ClientOptions.builder()
+                    .endpoint(ws.url("/").toString())
+                    .build());
+            for (SelectorCase c : cases) {
+                final Response<GetServersBySelectorResponse> response =
+                        api.getServersBySelector(c.selector, 1, 50).execute();
+                assertEquals(c.selector, 200, response.code());
+                final Set<Long> selectedByApi = ids(response.body().getServers());
+                assertEquals(c.selector, selectedByApi, ids(snapshot.select(c.selector)));
+                // evaluation without index must agree
+                final LabelSelector selector = LabelSelector.parse(c.selector);
+                assertEquals(c.selector, selectedByApi, ids(servers.stream()
+                        .filter(s -> selector.matches(s.getLabels()))
+                        .collect(Collectors.toList())));
+            }
+        }
+    }
+
+    private static Set<Long> ids(List<ServerDetail> servers) {
+        return servers.stream().map(ServerDetail::getId).collect(Collectors.toCollection(TreeSet::new));
+    }
+}
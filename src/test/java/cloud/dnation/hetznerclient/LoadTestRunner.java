@@ -0,0 +1,267 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.collect.ImmutableMap;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of paging and provisioning paths of client against {@link HetznerSimulator},
+ * reporting latency percentiles and throughput per scenario and per API operation.
+ * <p>Run using {@code mvn test-compile exec:java}. Parameters are read from system properties:</p>
+ * <ul>
+ *     <li>{@code load.servers} - number of servers to page through (5000)</li>
+ *     <li>{@code load.threads} - number of threads paging concurrently (8)</li>
+ *     <li>{@code load.duration} - duration of paging scenario in seconds (30)</li>
+ *     <li>{@code load.provision} - number of servers to provision (200)</li>
+ *     <li>{@code load.latency} - median latency of simulator in milliseconds (20)</li>
+ *     <li>{@code load.rateLimit} - rate limit of simulator per token (1000000)</li>
+ *     <li>{@code load.errorRate} - fraction of requests failed by simulator (0.0)</li>
+ * </ul>
+ */
+@Slf4j
+public final class LoadTestRunner {
+    private static final String SELECTOR = "load-test=true";
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        final HetznerSimulator.Options simulatorOptions = HetznerSimulator.Options.builder()
+                .medianLatency(Duration.ofMillis(Long.getLong("load.latency", 20)))
+                .rateLimit(Integer.getInteger("load.rateLimit", 1_000_000))
+                .refillPerSecond(Integer.getInteger("load.rateLimit", 1_000_000) / 3600.0)
+                .errorRate(Double.parseDouble(System.getProperty("load.errorRate", "0")))
+                .actionDuration(Duration.ofSeconds(2))
+                .build();
+        try (HetznerSimulator simulator = new HetznerSimulator(simulatorOptions)) {
+            final String endpoint = simulator.start();
+            simulator.seed("servers", Integer.getInteger("load.servers", 5000), ImmutableMap.of("load-test", "true"));
+
+            final Recorder pagingRecorder = new Recorder();
+            final Report paging = paging(client(endpoint, pagingRecorder), pagingRecorder,
+                    PagingOptions.builder().perPage(50).build(),
+                    Integer.getInteger("load.threads", 8), Duration.ofSeconds(Long.getLong("load.duration", 30)));
+            log.info("{}", paging);
+
+            final Recorder provisioningRecorder = new Recorder();
+            final Report provisioning = provisioning(client(endpoint, provisioningRecorder), provisioningRecorder,
+                    ProvisioningOptions.builder().statusPollInterval(Duration.ofMillis(500)).build(),
+                    Integer.getInteger("load.provision", 200));
+            log.info("{}", provisioning);
+            log.info("Simulator: {} requests, {} throttled, {} failed", simulator.getRequestCount(),
+                    simulator.getThrottledCount(), simulator.getFailedCount());
+        }
+    }
+
+    private static HetznerApi client(String endpoint, Recorder recorder) {
+        return ClientFactory.create(() -> "load-test", ClientOptions.builder()
+                .endpoint(endpoint)
+                .maxRequests(256)
+                .maxRequestsPerHost(256)
+                .retryPolicy(RetryPolicy.DEFAULT)
+                .metrics(recorder)
+                .build());
+    }
+
+    /**
+     * Fetch all servers matching selector from several threads, repeatedly until duration elapses.
+     *
+     * @param api client, reporting to recorder
+     * @param recorder recorder of request latencies
+     * @param options paging options
+     * @param threads number of threads
+     * @param duration duration of test
+     * @return report with one {@code fetchItems} row and row per operation
+     * @throws Exception when test can't be run
+     */
+    static Report paging(HetznerApi api, Recorder recorder, PagingOptions options, int threads, Duration duration)
+            throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final long start = System.nanoTime();
+        final long deadline = start + duration.toNanos();
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    while (System.nanoTime() - deadline < 0) {
+                        final long callStart = System.nanoTime();
+                        boolean ok = false;
+                        try {
+                            PagedResourceHelper.getAllServers(api, SELECTOR, options);
+                            ok = true;
+                        } catch (Exception e) {
+                            // counted as error
+                        }
+                        recorder.record("fetchItems", System.nanoTime() - callStart, ok);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new Report("paging", System.nanoTime() - start, recorder);
+    }
+
+    /**
+     * Provision servers and wait until they are running.
+     *
+     * @param api client, reporting to recorder
+     * @param recorder recorder of request latencies
+     * @param options provisioning options
+     * @param servers number of servers to provision
+     * @return report with one {@code provision} row and row per operation
+     * @throws InterruptedException when interrupted
+     */
+    static Report provisioning(HetznerApi api, Recorder recorder, ProvisioningOptions options, int servers)
+            throws InterruptedException {
+        final List<CreateServerRequest> requests = new ArrayList<>(servers);
+        for (int i = 0; i < servers; i++) {
+            final CreateServerRequest request = new CreateServerRequest();
+            request.setName("load-" + i);
+            request.setServerType("cpx11");
+            request.setImage("ubuntu-24.04");
+            requests.add(request);
+        }
+        final long start = System.nanoTime();
+        final List<ProvisioningResult> results;
+        try (BulkProvisioner provisioner = new BulkProvisioner(api, options)) {
+            results = provisioner.provision(requests);
+        }
+        final long elapsed = System.nanoTime() - start;
+        // servers are provisioned as single batch, each of them is reported with duration of batch
+        results.forEach(result -> recorder.record("provision", elapsed, result.isSucceeded()));
+        return new Report("provisioning", elapsed, recorder);
+    }
+
+    /**
+     * {@link ClientMetrics} which keeps latency of every request, grouped by operation.
+     */
+    static class Recorder implements ClientMetrics {
+        private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+        @Override
+        public void recordRequest(String operation, int status, long latencyNanos, long bytesOut, long bytesIn) {
+            record(operation, latencyNanos, status >= 200 && status < 400);
+        }
+
+        void record(String name, long latencyNanos, boolean ok) {
+            samples.computeIfAbsent(name, k -> new Samples()).add(latencyNanos, ok);
+        }
+
+        Map<String, Samples> getSamples() {
+            return new TreeMap<>(samples);
+        }
+    }
+
+    static class Samples {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        synchronized void add(long latencyNanos, boolean ok) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        synchronized int getCount() {
+            return count;
+        }
+
+        synchronized int getErrors() {
+            return errors;
+        }
+
+        /**
+         * Get percentile of latencies using nearest-rank method.
+         *
+         * @param percentile percentile, 0 - 100
+         * @return latency in nanoseconds
+         */
+        synchronized long percentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            final long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            final int rank = (int) Math.ceil(percentile / 100 * count);
+            return sorted[Math.max(0, Math.min(count, rank) - 1)];
+        }
+    }
+
+    static class Report {
+        private final String name;
+        private final long elapsedNanos;
+        private final Map<String, Samples> samples;
+
+        Report(String name, long elapsedNanos, Recorder recorder) {
+            this.name = name;
+            this.elapsedNanos = elapsedNanos;
+            this.samples = recorder.getSamples();
+        }
+
+        Samples get(String operation) {
+            return samples.get(operation);
+        }
+
+        /**
+         * Get throughput of operation.
+         *
+         * @param operation operation
+         * @return number of completed calls per second
+         */
+        double throughput(String operation) {
+            return samples.get(operation).getCount() / (elapsedNanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder(String.format("Scenario %s took %d ms%n", name,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos)));
+            sb.append(String.format("%-40s %8s %7s %9s %9s %9s %9s %9s %9s%n", "operation", "count", "errors",
+                    "ops/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+            samples.forEach((operation, s) -> sb.append(String.format(
+                    "%-40s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n", operation, s.getCount(), s.getErrors(),
+                    throughput(operation), millis(s.percentile(50)), millis(s.percentile(90)),
+                    millis(s.percentile(99)), millis(s.percentile(99.9)), millis(s.percentile(100)))));
+            return sb.toString();
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1e6;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.logging.HttpLoggingInterceptor.Level;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.Test;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static cloud.dnation.hetznerclient.TestHelper.resourceAsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LoggingInterceptorTest {
+    private boolean traceEnabled;
+    private boolean debugEnabled;
+    private final List<List<Object>> traced = new ArrayList<>();
+    private final List<List<Object>> debugged = new ArrayList<>();
+
+    /**
+     * Logger which records TRACE and DEBUG calls.
+     */
+    private final Logger log = (Logger) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[]{Logger.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "isTraceEnabled":
+                        return traceEnabled;
+                    case "isDebugEnabled":
+                        return debugEnabled || traceEnabled;
+                    case "trace":
+                        traced.add(Arrays.asList(args));
+                        return null;
+                    case "debug":
+                        debugged.add(Arrays.asList(args));
+                        return null;
+                    default:
+                        return method.getReturnType() == boolean.class ? false : null;
+                }
+            });
+
+    @Test
+    public void testLevelFollowsLogger() {
+        final LoggingInterceptor interceptor = new LoggingInterceptor(log, Level.BODY, 100, 1.0);
+        assertEquals(Level.NONE, interceptor.effectiveLevel());
+        debugEnabled = true;
+        assertEquals(Level.BASIC, interceptor.effectiveLevel());
+        traceEnabled = true;
+        assertEquals(Level.BODY, interceptor.effectiveLevel());
+        assertEquals(Level.HEADERS, new LoggingInterceptor(log, Level.HEADERS, 100, 1.0).effectiveLevel());
+    }
+
+    @Test
+    public void testTruncateBody() throws IOException {
+        traceEnabled = true;
+        final String body = resourceAsString("get-firewalls-by-selector.json");
+        try (MockWebServer ws = new MockWebServer()) {
+            ws.enqueue(new MockResponse().setBody(body).setHeader("Content-Type", "application/json"));
+            ws.start();
+            final OkHttpClient client = new OkHttpClient.Builder()
+                    .addInterceptor(new LoggingInterceptor(log, Level.BODY, 16, 1.0))
+                    .build();
+            try (Response response = client.newCall(new Request.Builder()
+                    .url(ws.url("/v1/firewalls"))
+                    .header("Authorization", "Bearer secret")
+                    .build()).execute()) {
+                // consumer still receives whole body
+                assertEquals(body, response.body().string());
+            }
+        }
+        assertTrue(traced.contains(Arrays.asList("{}", body.substring(0, 16))));
+        assertTrue(traced.contains(Collections.singletonList("(body truncated)")));
+        assertTrue(traced.contains(Arrays.asList("{}: {}", "Authorization", "██")));
+        assertFalse(traced.contains(Arrays.asList("{}: {}", "Authorization", "Bearer secret")));
+        assertTrue(debugged.isEmpty());
+    }
+
+    @Test
+    public void testTruncateMultiByteBody() throws IOException {
+        traceEnabled = true;
+        // 10 characters, 20 bytes
+        final String body = "\"žžžžžžžž\"";
+        try (MockWebServer ws = new MockWebServer()) {
+            ws.enqueue(new MockResponse().setBody(body).setHeader("Content-Type", "application/json"));
+            ws.start();
+            final OkHttpClient client = new OkHttpClient.Builder()
+                    .addInterceptor(new LoggingInterceptor(log, Level.BODY, 13, 1.0))
+                    .build();
+            try (Response response = client.newCall(new Request.Builder().url(ws.url("/v1/servers")).build())
+                    .execute()) {
+                assertEquals(body, response.body().string());
+            }
+        }
+        assertTrue(traced.contains(Arrays.asList("{}", "\"žžžžžž")));
+        assertTrue(traced.contains(Collections.singletonList("(body truncated)")));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static cloud.dnation.hetznerclient.TestHelper.resourceAsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ModelTypeAdapterFactoryTest {
+    private final Gson reflective = new Gson();
+    private final Gson gson = new GsonBuilder()
+            .registerTypeAdapterFactory(ModelTypeAdapterFactory.INSTANCE)
+            .create();
+
+    private <T> void assertSameDecode(String resource, Class<T> clazz) throws IOException {
+        final String json = resourceAsString(resource);
+        assertEquals(reflective.fromJson(json, clazz), gson.fromJson(json, clazz));
+    }
+
+    @Test
+    public void testDecodeMatchesReflective() throws IOException {
+        assertSameDecode("get-servers-by-selector.json", GetServersBySelectorResponse.class);
+        assertSameDecode("get-primary-ips-by-selector.json", GetAllPrimaryIpsResponse.class);
+        assertSameDecode("get-action-by-id.json", ActionResponse.class);
+        assertSameDecode("get-lb-actions.json", GetActionsResponse.class);
+        assertSameDecode("paging-primary-ips-1.json", GetAllPrimaryIpsResponse.class);
+    }
+
+    @Test
+    public void testServerDetail() throws IOException {
+        final GetServersBySelectorResponse response = gson.fromJson(
+                resourceAsString("get-servers-by-selector.json"), GetServersBySelectorResponse.class);
+        assertEquals(3, response.getServers().size());
+        final ServerDetail server = response.getServers().get(0);
+        assertEquals(4711000L, server.getId().longValue());
+        assertEquals("jenkins-agent-0", server.getName());
+        assertEquals("hcloud-01", server.getLabels().get("jenkins.io/cloud"));
+        assertEquals("10.0.0.2", server.getPrivateNet().get(0).getIp());
+        assertEquals(100L, server.getVolumes().get(0).longValue());
+        assertNull(response.getServers().get(2).getPlacementGroup());
+        assertEquals("1", response.getMeta().getPagination().getLastPage());
+        assertNull(response.getMeta().getPagination().getNextPage());
+    }
+
+    @Test
+    public void testWriteUsesDelegate() {
+        final Pagination pagination = new Pagination().page("2").nextPage("3");
+        assertEquals(reflective.toJson(pagination), gson.toJson(pagination));
+    }
+}
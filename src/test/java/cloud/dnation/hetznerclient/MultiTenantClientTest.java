@@ -0,0 +1,179 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import retrofit2.Callback;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static cloud.dnation.hetznerclient.TestHelper.resourceAsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MultiTenantClientTest {
+    private final List<String> tokens = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger failures = new AtomicInteger();
+    private MockWebServer ws;
+    private MultiTenantClient client;
+
+    @Before
+    public void setUp() throws IOException {
+        final String body = resourceAsString("get-network-by-id.json");
+        ws = new MockWebServer();
+        ws.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                tokens.add(request.getHeader("Authorization"));
+                if (failures.getAndDecrement() > 0) {
+                    return new MockResponse().setResponseCode(503);
+                }
+                return new MockResponse().setBody(body).setHeadersDelay(20, TimeUnit.MILLISECONDS);
+            }
+        });
+        ws.start();
+        client = new MultiTenantClient(ClientOptions.builder()
+                .endpoint(ws.url("/").toString())
+                .retryPolicy(RetryPolicy.NONE)
+                .build(), 1);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        ws.close();
+    }
+
+    @Test
+    public void testTokenPerTenantAndRotation() throws IOException {
+        final AtomicReference<String> token = new AtomicReference<>("a-1");
+        client.register("a", token::get, 1);
+        client.register("b", () -> "b-1", 1);
+        assertEquals(200, client.getApi("a").getNetworkById(1).execute().code());
+        assertEquals(200, client.getApi("b").getNetworkById(1).execute().code());
+        token.set("a-2");
+        client.getApi("a").getNetworkById(1).execute();
+        client.rotateToken("b", () -> "b-2");
+        client.getApi("b").getNetworkById(1).execute();
+        assertEquals(Arrays.asList("Bearer a-1", "Bearer b-1", "Bearer a-2", "Bearer b-2"), tokens);
+    }
+
+    @Test
+    public void testRetryUsesRotatedToken() throws IOException {
+        final MultiTenantClient retrying = new MultiTenantClient(ClientOptions.builder()
+                .endpoint(ws.url("/").toString())
+                .retryPolicy(RetryPolicy.builder().initialBackoff(Duration.ofMillis(5)).build())
+                .build(), 1);
+        final AtomicInteger generation = new AtomicInteger();
+        retrying.register("a", () -> "a-" + generation.incrementAndGet(), 1);
+        failures.set(1);
+        assertEquals(200, retrying.getApi("a").getNetworkById(1).execute().code());
+        assertEquals(Arrays.asList("Bearer a-1", "Bearer a-2"), tokens);
+    }
+
+    @Test
+    public void testSlotIsReleasedWhenCallCannotStart() {
+        final FairScheduler scheduler = new FairScheduler(1);
+        final FairScheduler.Tenant tenant = new FairScheduler.Tenant(1);
+        final List<String> order = new ArrayList<>();
+        scheduler.acquire(tenant, () -> order.add("first"));
+        scheduler.acquire(tenant, () -> {
+            throw new IllegalStateException("Already executed");
+        });
+        scheduler.acquire(tenant, () -> order.add("third"));
+        // failed action of second call returns its slot, so third call is admitted
+        scheduler.release();
+        assertEquals(Arrays.asList("first", "third"), order);
+        assertEquals(1, scheduler.getRunning());
+        scheduler.release();
+        try {
+            scheduler.acquire(tenant, () -> {
+                throw new IllegalStateException("Already executed");
+            });
+            fail("Exception of action run in calling thread must be rethrown");
+        } catch (IllegalStateException e) {
+            assertEquals(0, scheduler.getRunning());
+        }
+    }
+
+    @Test
+    public void testNoisyTenantDoesNotStarveOthers() throws Exception {
+        final HetznerApi noisy = client.register("noisy", () -> "noisy", 1);
+        final HetznerApi quiet = client.register("quiet", () -> "quiet", 1);
+        final List<CompletableFuture<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(enqueue(noisy));
+        }
+        futures.add(enqueue(quiet));
+        futures.add(enqueue(quiet));
+        assertTrue(client.getWaitingCalls("noisy") > 0);
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        assertEquals(12, tokens.size());
+        // quiet tenant alternates with noisy one instead of waiting for all its calls
+        assertTrue(tokens.toString(), tokens.lastIndexOf("Bearer quiet") <= 4);
+    }
+
+    @Test
+    public void testWeightedShares() {
+        final FairScheduler scheduler = new FairScheduler(1);
+        final FairScheduler.Tenant heavy = new FairScheduler.Tenant(2);
+        final FairScheduler.Tenant light = new FairScheduler.Tenant(1);
+        final List<String> order = new ArrayList<>();
+        scheduler.acquire(light, () -> order.add("first"));
+        for (int i = 0; i < 6; i++) {
+            scheduler.acquire(light, () -> order.add("light"));
+            scheduler.acquire(heavy, () -> order.add("heavy"));
+        }
+        for (int i = 0; i < 6; i++) {
+            scheduler.release();
+        }
+        assertEquals(7, order.size());
+        assertEquals(4, Collections.frequency(order.subList(1, 7), "heavy"));
+        assertEquals(1, scheduler.getRunning());
+    }
+
+    private static CompletableFuture<Object> enqueue(HetznerApi api) {
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        api.getNetworkById(1).enqueue(new Callback<GetNetworkByIdResponse>() {
+            @Override
+            public void onResponse(retrofit2.Call<GetNetworkByIdResponse> call,
+                                   retrofit2.Response<GetNetworkByIdResponse> response) {
+                future.complete(response.body());
+            }
+
+            @Override
+            public void onFailure(retrofit2.Call<GetNetworkByIdResponse> call, Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+
+public class PagedResourceHelperTest {
+    private static final int PAGES = 5;
+    private static final int PER_PAGE = 3;
+
+    private MockWebServer ws;
+    private HetznerApi api;
+
+    @Before
+    public void setUp() throws IOException {
+        ws = new MockWebServer();
+        ws.setDispatcher(new PagingDispatcher());
+        ws.start();
+        System.setProperty("cloud.dnation.hetznerclient.apiendpoint",
+                "http://localhost:" + ws.getPort());
+        api = ClientFactory.create(() -> "mock");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        ws.shutdown();
+    }
+
+    @Test
+    public void testFetchPagesConcurrently() throws IOException {
+        final List<PrimaryIpDetail> items = PagedResourceHelper.getAllPrimaryIps(api, "",
+                PagingOptions.builder().perPage(PER_PAGE).parallelism(3).build());
+        assertEquals(PAGES * PER_PAGE, items.size());
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(i, items.get(i).getId().intValue());
+        }
+        assertEquals(PAGES, ws.getRequestCount());
+    }
+
+    @Test
+    public void testFetchPagesSequentially() throws IOException {
+        final List<PrimaryIpDetail> items = PagedResourceHelper.getAllPrimaryIps(api, "",
+                PagingOptions.builder().perPage(PER_PAGE).parallelism(1).build());
+        assertEquals(PAGES * PER_PAGE, items.size());
+        assertEquals(PAGES * PER_PAGE - 1, items.get(items.size() - 1).getId().intValue());
+    }
+
+    @Test
+    public void testFetchPagesOnVirtualThreads() throws IOException {
+        assertEquals(Double.parseDouble(System.getProperty("java.specification.version")) >= 21,
+                VirtualThreads.isSupported());
+        // falls back to platform threads on older runtimes
+        final HetznerApi virtualApi = ClientFactory.create(() -> "mock", ClientOptions.builder()
+                .virtualThreads(true)
+                .build());
+        final List<PrimaryIpDetail> items = AsyncPagedResourceHelper.getAllPrimaryIps(new AsyncHetznerApi(virtualApi),
+                "", PagingOptions.builder().perPage(PER_PAGE).virtualThreads(true).build()).join();
+        assertEquals(PAGES * PER_PAGE, items.size());
+        assertEquals(PAGES * PER_PAGE, PagedResourceHelper.getAllPrimaryIps(virtualApi, "",
+                PagingOptions.builder().perPage(PER_PAGE).parallelism(3).virtualThreads(true).build()).size());
+    }
+
+    @Test
+    public void testStreamStopsAfterFirstPage() {
+        final PagingOptions options = PagingOptions.builder().perPage(PER_PAGE).build();
+        try (Stream<PrimaryIpDetail> stream = PagedResourceHelper.streamPrimaryIps(api, "", options)) {
+            assertEquals(1, stream.filter(ip -> ip.getId() == 1).findFirst().get().getId().intValue());
+        }
+        assertEquals(1, ws.getRequestCount());
+    }
+
+    @Test
+    public void testStreamAllPagesWithReadAhead() {
+        final PagingOptions options = PagingOptions.builder().perPage(PER_PAGE).readAhead(true).build();
+        try (Stream<PrimaryIpDetail> stream = PagedResourceHelper.streamPrimaryIps(api, "", options)) {
+            final List<Long> ids = stream.map(PrimaryIpDetail::getId).collect(Collectors.toList());
+            assertEquals(PAGES * PER_PAGE, ids.size());
+            assertEquals(PAGES * PER_PAGE - 1, ids.get(ids.size() - 1).intValue());
+        }
+        assertEquals(PAGES, ws.getRequestCount());
+    }
+
+    @Test
+    public void testFetchPagesAsync() throws Exception {
+        final AsyncHetznerApi asyncApi = new AsyncHetznerApi(api);
+        final List<PrimaryIpDetail> items = AsyncPagedResourceHelper.getAllPrimaryIps(asyncApi, "",
+                PagingOptions.builder().perPage(PER_PAGE).parallelism(2).build()).get(10, TimeUnit.SECONDS);
+        assertEquals(PAGES * PER_PAGE, items.size());
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(i, items.get(i).getId().intValue());
+        }
+        assertEquals(PAGES, ws.getRequestCount());
+    }
+
+    /**
+     * Serves {@link #PAGES} pages of primary IPs, earlier pages are answered slower than later ones.
+     */
+    static class PagingDispatcher extends Dispatcher {
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            final HttpUrl url = request.getRequestUrl();
+            final int page = Integer.parseInt(url.queryParameter("page"));
+            final int perPage = Integer.parseInt(url.queryParameter("per_page"));
+            final StringBuilder sb = new StringBuilder("{\"primary_ips\":[");
+            for (int i = 0; i < perPage; i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append("{\"id\":").append(page * perPage + i).append(",\"ip\":\"1.2.3.4\"}");
+            }
+            sb.append("],\"meta\":{\"pagination\":{\"page\":").append(page + 1)
+                    .append(",\"per_page\":").append(perPage)
+                    .append(",\"next_page\":").append(page + 1 < PAGES ? String.valueOf(page + 2) : "null")
+                    .append(",\"last_page\":").append(PAGES)
+                    .append(",\"total_entries\":").append(PAGES * perPage)
+                    .append("}}}");
+            return new MockResponse()
+                    .setBody(sb.toString())
+                    .setBodyDelay((PAGES - page) * 20L, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import com.google.common.base.Ticker;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RateLimitGovernorTest {
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicLong millis = new AtomicLong(1_700_000_000_000L);
+    private final RateLimitGovernor governor = new RateLimitGovernor(new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    }, millis::get);
+
+    private static Response response(int code, long limit, long remaining, long reset) {
+        return new Response.Builder()
+                .request(new Request.Builder().url("http://localhost/v1/servers").build())
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("")
+                .header(RateLimitGovernor.HEADER_LIMIT, String.valueOf(limit))
+                .header(RateLimitGovernor.HEADER_REMAINING, String.valueOf(remaining))
+                .header(RateLimitGovernor.HEADER_RESET, String.valueOf(reset))
+                .build();
+    }
+
+    @Test
+    public void testLearnFromHeaders() throws InterruptedException {
+        final long now = TimeUnit.MILLISECONDS.toSeconds(millis.get());
+        governor.acquire();
+        // 8 requests missing, bucket will be full in 16 seconds => 1 request per 2 seconds
+        governor.release(response(200, 10, 2, now + 16));
+        assertEquals(10, governor.getLimit());
+        assertEquals(2, governor.getRemaining());
+        assertEquals(0, governor.getWaitMillis(2));
+        assertEquals(2000, governor.getWaitMillis(3));
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(4));
+        assertEquals(4, governor.getRemaining());
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(100));
+        assertEquals(10, governor.getRemaining());
+    }
+
+    @Test
+    public void testTooManyRequests() throws InterruptedException {
+        final long now = TimeUnit.MILLISECONDS.toSeconds(millis.get());
+        governor.acquire();
+        governor.release(response(429, 3600, 0, now + 3600));
+        assertEquals(0, governor.getRemaining());
+        assertEquals(1000, governor.getWaitMillis(1));
+    }
+
+    @Test
+    public void testAwaitPermitsPutsThemBack() throws InterruptedException {
+        governor.awaitPermits(4);
+        assertEquals(3600, governor.getRemaining());
+        governor.acquire();
+        assertEquals(3599, governor.getRemaining());
+    }
+
+    @Test
+    public void testSharedPerToken() {
+        assertSame(RateLimitGovernor.forToken("abc"), RateLimitGovernor.forToken("abc"));
+    }
+
+    @Test
+    public void testRejectedRequestIsRefunded() throws IOException, InterruptedException {
+        final OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(new RateLimitInterceptor(governor))
+                .addInterceptor(chain -> {
+                    throw new ConcurrencyLimitExceededException("Limit of 1 concurrent requests reached");
+                })
+                .build();
+        try {
+            client.newCall(new Request.Builder().url("http://localhost/v1/servers").build()).execute();
+            fail("Expected ConcurrencyLimitExceededException");
+        } catch (ConcurrencyLimitExceededException e) {
+            assertEquals(3600, governor.getRemaining());
+        }
+        // rejected request is not counted in flight when budget is learned from next response
+        governor.acquire();
+        governor.release(response(200, 3600, 100, 0));
+        assertEquals(100, governor.getRemaining());
+    }
+
+    @Test
+    public void testInterruptedAcquirePutsPermitBack() throws InterruptedException {
+        final long now = TimeUnit.MILLISECONDS.toSeconds(millis.get());
+        governor.acquire();
+        governor.release(response(200, 3600, 0, now + 3600));
+        assertEquals(0, governor.getRemaining());
+
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        final Thread waiter = new Thread(() -> {
+            try {
+                governor.acquire();
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+        });
+        waiter.start();
+        // waiter has taken its permit once budget goes negative
+        while (governor.getWaitMillis(1) < 2000) {
+            Thread.sleep(1);
+        }
+        waiter.interrupt();
+        waiter.join();
+        assertTrue(interrupted.get());
+        assertEquals(1000, governor.getWaitMillis(1));
+
+        // waiter is not counted in flight when budget is learned from next response
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        governor.acquire();
+        governor.release(response(200, 3600, 100, now + 3600));
+        assertEquals(100, governor.getRemaining());
+    }
+}
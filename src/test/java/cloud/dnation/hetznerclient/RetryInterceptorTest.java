@@ -0,0 +1,119 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import okhttp3.Request;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static cloud.dnation.hetznerclient.TestHelper.resourceAsString;
+import static org.junit.Assert.assertEquals;
+
+public class RetryInterceptorTest {
+    private MockWebServer ws;
+    private final AtomicInteger retries = new AtomicInteger();
+    private final RetryPolicy.RetryPolicyBuilder policy = RetryPolicy.builder()
+            .initialBackoff(Duration.ofMillis(5))
+            .maxBackoff(Duration.ofMillis(20))
+            .budget(new RetryBudget(0.1, 10))
+            .listener(new RetryListener() {
+                @Override
+                public void onRetry(Request request, int attempt, long delayMillis) {
+                    retries.incrementAndGet();
+                }
+            });
+
+    @Before
+    public void setUp() throws IOException {
+        ws = new MockWebServer();
+        ws.start();
+        System.setProperty("cloud.dnation.hetznerclient.apiendpoint",
+                "http://localhost:" + ws.getPort());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        ws.shutdown();
+    }
+
+    @Test
+    public void testRetryGet() throws IOException {
+        final HetznerApi api = ClientFactory.create(() -> "retry-mock", policy.build());
+        ws.enqueue(new MockResponse().setResponseCode(503));
+        ws.enqueue(new MockResponse().setResponseCode(503).setHeader("Retry-After", "1"));
+        ws.enqueue(new MockResponse().setBody(resourceAsString("get-network-by-id.json")));
+        final Response<GetNetworkByIdResponse> response = api.getNetworkById(10).execute();
+        assertEquals(200, response.code());
+        assertEquals(3, ws.getRequestCount());
+        assertEquals(2, retries.get());
+    }
+
+    @Test
+    public void testGiveUpAfterMaxAttempts() throws IOException {
+        final HetznerApi api = ClientFactory.create(() -> "retry-mock", policy.maxAttempts(2).build());
+        ws.enqueue(new MockResponse().setResponseCode(503));
+        ws.enqueue(new MockResponse().setResponseCode(503));
+        assertEquals(503, api.getNetworkById(10).execute().code());
+        assertEquals(2, ws.getRequestCount());
+    }
+
+    @Test
+    public void testNoRetryOfPost() throws IOException {
+        final HetznerApi api = ClientFactory.create(() -> "retry-mock", policy.build());
+        ws.enqueue(new MockResponse().setResponseCode(503));
+        assertEquals(503, api.powerOffServer(1).execute().code());
+        assertEquals(1, ws.getRequestCount());
+        assertEquals(0, retries.get());
+    }
+
+    @Test
+    public void testRetryBudget() throws IOException {
+        final HetznerApi api = ClientFactory.create(() -> "retry-mock", policy.budget(new RetryBudget(0, 1)).build());
+        ws.enqueue(new MockResponse().setResponseCode(503));
+        ws.enqueue(new MockResponse().setResponseCode(503));
+        ws.enqueue(new MockResponse().setResponseCode(503));
+        assertEquals(503, api.getNetworkById(10).execute().code());
+        assertEquals(2, ws.getRequestCount());
+    }
+
+    @Test
+    public void testRetryBudgetIsCapped() {
+        final RetryBudget budget = new RetryBudget(0.5, 1, 2);
+        for (int i = 0; i < 10; i++) {
+            budget.deposit();
+        }
+        assertEquals(2, budget.getAvailable());
+        assertEquals(0, new RetryBudget(0, 0).getAvailable());
+    }
+
+    @Test
+    public void testNoRetryByDefault() throws IOException {
+        final HetznerApi api = ClientFactory.create(() -> "retry-mock", ClientOptions.builder()
+                .endpoint(ws.url("/").toString())
+                .build());
+        ws.enqueue(new MockResponse().setResponseCode(503));
+        assertEquals(503, api.getNetworkById(10).execute().code());
+        assertEquals(1, ws.getRequestCount());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ *     Copyright 2026 https://dnation.cloud
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cloud.dnation.hetznerclient;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import retrofit2.Call;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static cloud.dnation.hetznerclient.TestHelper.resourceAsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SingleFlightApiDecoratorTest {
+    private MockWebServer ws;
+    private SingleFlightApiDecorator singleFlight;
+    private HetznerApi api;
+
+    @Before
+    public void setUp() throws IOException {
+        ws = new MockWebServer();
+        ws.start();
+        singleFlight = new SingleFlightApiDecorator(ClientFactory.create(() -> "single-flight-mock",
+                ClientOptions.builder()
+                        .endpoint(ws.url("/").toString())
+                        .retryPolicy(RetryPolicy.NONE)
+                        .build()));
+        api = singleFlight.getApi();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        ws.close();
+    }
+
+    @Test
+    public void testIdenticalRequestsAreCoalesced() throws Exception {
+        ws.enqueue(new MockResponse()
+                .setBody(resourceAsString("get-action-by-id.json"))
+                .setBodyDelay(300, TimeUnit.MILLISECONDS));
+        final ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            final List<Future<ActionResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                futures.add(executor.submit(() -> api.getActionById(603984077612933L).execute().body()));
+            }
+            final ActionResponse first = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<ActionResponse> future : futures) {
+                assertSame(first, future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, ws.getRequestCount());
+        assertEquals(5, singleFlight.getCoalescedCount());
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    public void testSequentialRequestsAreNotShared() throws IOException {
+        ws.enqueue(new MockResponse().setBody(resourceAsString("get-action-by-id.json")));
+        ws.enqueue(new MockResponse().setBody(resourceAsString("get-action-by-id.json")));
+        api.getActionById(1L).execute();
+        api.getActionById(1L).execute();
+        assertEquals(2, ws.getRequestCount());
+        assertEquals(0, singleFlight.getCoalescedCount());
+    }
+
+    @Test
+    public void testErrorBodyIsBufferedPerCaller() throws Exception {
+        final String error = "{\"error\":{\"code\":\"not_found\",\"message\":\"not found\"}}";
+        ws.enqueue(new MockResponse()
+                .setResponseCode(404)
+                .setBody(error)
+                .setBodyDelay(300, TimeUnit.MILLISECONDS));
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            final List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                futures.add(executor.submit(() -> api.getActionById(1L).execute().errorBody().string()));
+            }
+            for (Future<String> future : futures) {
+                assertEquals(error, future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, ws.getRequestCount());
+    }
+
+    @Test
+    public void testSharedRequestIsCancelledWithLastCaller() throws Exception {
+        ws.enqueue(new MockResponse()
+                .setBody(resourceAsString("get-action-by-id.json"))
+                .setBodyDelay(500, TimeUnit.MILLISECONDS));
+        final Call<ActionResponse> first = api.getActionById(1L);
+        final Call<ActionResponse> second = api.getActionById(1L);
+        final Call<ActionResponse> third = api.getActionById(1L);
+        final CompletableFuture<ActionResponse> firstResult = CallFutures.toFuture(first);
+        final CompletableFuture<ActionResponse> secondResult = CallFutures.toFuture(second);
+        first.cancel();
+        assertTrue(firstResult.isCompletedExceptionally());
+        // second call still waits for shared request
+        assertEquals(1, singleFlight.getInFlightCount());
+        assertEquals(603984077612933L, (long) secondResult.get(5, TimeUnit.SECONDS).getAction().getId());
+
+        // flight is unregistered by thread which completed it, possibly after callers got response
+        while (singleFlight.getInFlightCount() > 0) {
+            Thread.sleep(1);
+        }
+        ws.enqueue(new MockResponse()
+                .setBody(resourceAsString("get-action-by-id.json"))
+                .setBodyDelay(1, TimeUnit.SECONDS));
+        final CompletableFuture<ActionResponse> thirdResult = CallFutures.toFuture(third);
+        third.cancel();
+        assertTrue(thirdResult.isCompletedExceptionally());
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+}